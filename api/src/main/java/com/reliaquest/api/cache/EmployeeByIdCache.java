@@ -0,0 +1,106 @@
+package com.reliaquest.api.cache;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employees looked up by id, so hot ids are not fetched from the mock server over and over.
+ *
+ * <p>Holds up to {@code employeeCache.byId.maximumSize} employees for {@code ttlMillis} after they were fetched,
+ * evicting the least recently used first. Ids the mock server answered 404 for are remembered separately for the
+ * shorter {@code notFoundTtlMillis}. Our own creates and deletes update both, so they are visible straight away; changes
+ * made by anyone else show up once the entry expires. Hit, miss and eviction counts are published as the
+ * {@code cache.*} meters tagged {@code cache=employeeById} and {@code cache=employeeByIdNotFound}.
+ */
+@Component
+public class EmployeeByIdCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<String, Employee> employees;
+    private final Cache<String, String> notFound;
+
+    @Autowired
+    public EmployeeByIdCache(
+            @Value("${employeeCache.byId.enabled:true}") boolean enabled,
+            @Value("${employeeCache.byId.maximumSize:10000}") long maximumSize,
+            @Value("${employeeCache.byId.ttlMillis:60000}") long ttlMillis,
+            @Value("${employeeCache.byId.notFoundTtlMillis:10000}") long notFoundTtlMillis) {
+        this(enabled, maximumSize, ttlMillis, notFoundTtlMillis, Ticker.systemTicker());
+    }
+
+    EmployeeByIdCache(boolean enabled, long maximumSize, long ttlMillis, long notFoundTtlMillis, Ticker ticker) {
+        this.enabled = enabled;
+        this.employees = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.notFound = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(notFoundTtlMillis))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /** A cache that holds nothing. */
+    public static EmployeeByIdCache disabled() {
+        return new EmployeeByIdCache(false, 0, 0, 0);
+    }
+
+    public Optional<Employee> get(String id) {
+        return enabled ? Optional.ofNullable(employees.getIfPresent(id)) : Optional.empty();
+    }
+
+    /** The message of the 404 last seen for the id, while it is remembered. */
+    public Optional<String> notFoundMessage(String id) {
+        return enabled ? Optional.ofNullable(notFound.getIfPresent(id)) : Optional.empty();
+    }
+
+    public void put(Employee employee) {
+        if (enabled && employee != null && employee.getId() != null) {
+            notFound.invalidate(employee.getId());
+            employees.put(employee.getId(), employee);
+        }
+    }
+
+    public void putNotFound(String id, String message) {
+        if (enabled) {
+            employees.invalidate(id);
+            notFound.put(id, message);
+        }
+    }
+
+    public void invalidate(String id) {
+        employees.invalidate(id);
+        notFound.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<String> ids) {
+        employees.invalidateAll(ids);
+        notFound.invalidateAll(ids);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, employees, "employeeById");
+        GuavaCacheMetrics.monitor(registry, notFound, "employeeByIdNotFound");
+    }
+
+    long size() {
+        employees.cleanUp();
+        return employees.size();
+    }
+}
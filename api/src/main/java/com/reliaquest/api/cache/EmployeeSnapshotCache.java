@@ -0,0 +1,389 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.dto.RosterPosition;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.index.PersistentVector;
+import com.reliaquest.api.model.Employee;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps an in-memory {@link RosterSnapshot} in front of {@link ApiClient#getAllEmployees()}.
+ *
+ * <p>The snapshot is refreshed in the background every {@code employeeCache.refreshIntervalMillis}. Readers are served
+ * the current snapshot as long as it is younger than {@code employeeCache.maxStalenessMillis}; past that a synchronous
+ * refresh is forced. Local writes patch the snapshot in place so readers see them before the next refresh. A refresh
+ * that overlaps local writes replays them onto what it fetched, since the mock server may have answered before them.
+ *
+ * <p>With {@code employeeCache.deltaSync} on, a snapshot whose mock server roster version is known is refreshed from
+ * the mock server's change log instead, fetching only the creates and deletes since that version; the full roster is
+ * fetched again only when the change log cannot catch up.
+ *
+ * <p>The last snapshot held, even one since invalidated, stays available as a {@link #staleFallback()} for up to
+ * {@code employeeCache.staleIfErrorMillis}, for readers to fall back on while the mock server cannot be reached.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotCache {
+
+    private static final String ROSTER_KEY = "roster";
+
+    private final ApiClient apiClient;
+    private final boolean enabled;
+    private final long maxStalenessMillis;
+    private final long staleIfErrorMillis;
+    private final boolean deltaSync;
+
+    private final AtomicReference<Held> current = new AtomicReference<>(Held.NONE);
+    private final AtomicReference<RosterSnapshot> invalidated = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    // A lock rather than a monitor: the refresh blocks on the mock server, which would pin a virtual thread.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final SingleFlight<String, RosterSnapshot> refreshCalls = new SingleFlight<>();
+
+    public EmployeeSnapshotCache(ApiClient apiClient, boolean enabled, long maxStalenessMillis) {
+        this(apiClient, enabled, maxStalenessMillis, 0);
+    }
+
+    public EmployeeSnapshotCache(
+            ApiClient apiClient, boolean enabled, long maxStalenessMillis, long staleIfErrorMillis) {
+        this(apiClient, enabled, maxStalenessMillis, staleIfErrorMillis, true);
+    }
+
+    @Autowired
+    public EmployeeSnapshotCache(
+            ApiClient apiClient,
+            @Value("${employeeCache.enabled:true}") boolean enabled,
+            @Value("${employeeCache.maxStalenessMillis:120000}") long maxStalenessMillis,
+            @Value("${employeeCache.staleIfErrorMillis:600000}") long staleIfErrorMillis,
+            @Value("${employeeCache.deltaSync:true}") boolean deltaSync) {
+        this.apiClient = apiClient;
+        this.enabled = enabled;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.staleIfErrorMillis = staleIfErrorMillis;
+        this.deltaSync = deltaSync;
+    }
+
+    public RosterSnapshot snapshot() {
+        RosterSnapshot snapshot = current.get().snapshot();
+        if (isUsable(snapshot)) {
+            return snapshot;
+        }
+        if (!enabled) {
+            // Nothing cached to wait for; concurrent fetches are coalesced by the client instead of queued here.
+            return refresh();
+        }
+
+        refreshLock.lock();
+        try {
+            snapshot = current.get().snapshot();
+            if (isUsable(snapshot)) {
+                return snapshot;
+            }
+            return refresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #snapshot()}. Concurrent callers past the staleness window share one fetch.
+     */
+    public Mono<RosterSnapshot> snapshotAsync() {
+        return Mono.defer(() -> {
+            RosterSnapshot snapshot = current.get().snapshot();
+            return isUsable(snapshot) ? Mono.just(snapshot) : refreshCalls.execute(ROSTER_KEY, this::refreshAsync);
+        });
+    }
+
+    /**
+     * Looks an employee up in the current snapshot by id, without fetching. Empty when there is no snapshot or the id
+     * is not in it; the snapshot may lag the mock server, so this is a hint rather than an existence check.
+     */
+    public Optional<Employee> cachedEmployee(String id) {
+        RosterSnapshot snapshot = current.get().snapshot();
+        return snapshot == null ? Optional.empty() : snapshot.findById(id);
+    }
+
+    /**
+     * The last-known-good roster to serve when it cannot be fetched, however stale, up to
+     * {@code employeeCache.staleIfErrorMillis} old. Empty when there is none or stale-if-error is off (0).
+     */
+    public Optional<RosterSnapshot> staleFallback() {
+        RosterSnapshot snapshot = current.get().snapshot();
+        if (snapshot == null) {
+            snapshot = invalidated.get();
+        }
+        if (staleIfErrorMillis <= 0
+                || snapshot == null
+                || snapshot.ageMillis(System.currentTimeMillis()) > staleIfErrorMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public RosterSnapshot refresh() {
+        Held base = current.get();
+        RosterPosition upstream =
+                base.snapshot() == null ? null : base.snapshot().upstream();
+        if (deltaSync && upstream != null) {
+            Optional<EmployeeChangesDTO> delta = changesSince(upstream);
+            if (delta.isPresent()) {
+                return installChanges(base, delta.get());
+            }
+        }
+        EmployeeDataDTO<List<Employee>> response = apiClient.getAllEmployees();
+        List<Employee> fetched = response == null ? null : response.getData();
+        return install(
+                base,
+                fetched,
+                fetched == null ? null : apiClient.rosterPosition(fetched).orElse(null));
+    }
+
+    /**
+     * As {@link #refresh}: catches up from the snapshot's roster version when it can, fetching the roster if not. The
+     * snapshot and its indexes are built on the parallel scheduler rather than the event loop that delivered the body.
+     */
+    public Mono<RosterSnapshot> refreshAsync() {
+        return Mono.defer(() -> {
+            Held base = current.get();
+            RosterPosition upstream =
+                    base.snapshot() == null ? null : base.snapshot().upstream();
+            Mono<RosterSnapshot> fetched = Mono.defer(() -> apiClient
+                    .getAllEmployeesAsync()
+                    .publishOn(Schedulers.parallel())
+                    .map(response -> {
+                        List<Employee> employees = response.getData();
+                        return install(
+                                base,
+                                employees,
+                                employees == null
+                                        ? null
+                                        : apiClient.rosterPosition(employees).orElse(null));
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> install(base, null, null))));
+            if (!deltaSync || upstream == null) {
+                return fetched;
+            }
+            return apiClient
+                    .getEmployeeChangesAsync(upstream)
+                    .filter(delta -> delta.getChanges() != null)
+                    .onErrorResume(
+                            EmployeeApiException.class, ex -> isGone(ex, upstream) ? Mono.empty() : Mono.error(ex))
+                    .publishOn(Schedulers.parallel())
+                    .map(delta -> installChanges(base, delta))
+                    .switchIfEmpty(fetched);
+        });
+    }
+
+    /** Empty when the mock server can no longer tell what changed since {@code upstream}. */
+    private Optional<EmployeeChangesDTO> changesSince(RosterPosition upstream) {
+        try {
+            return Optional.ofNullable(apiClient.getEmployeeChanges(upstream))
+                    .filter(delta -> delta.getChanges() != null);
+        } catch (EmployeeApiException ex) {
+            if (!isGone(ex, upstream)) {
+                throw ex;
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isGone(EmployeeApiException ex, RosterPosition upstream) {
+        if (ex.getStatus() != HttpStatus.GONE) {
+            return false;
+        }
+        log.debug("Mock server cannot catch up from roster version {}, fetching the whole roster", upstream.version());
+        return true;
+    }
+
+    private RosterSnapshot install(Held base, List<Employee> fetched, RosterPosition upstream) {
+        List<Employee> employees = fetched == null ? List.of() : List.copyOf(fetched);
+
+        // The client hands back the very list it decoded before when the mock server answers 304; keep the indexes.
+        RosterSnapshot fresh = base.fetched() != null && base.fetched().employees() == employees
+                ? base.fetched().refetched(versions.incrementAndGet(), System.currentTimeMillis(), upstream)
+                : RosterSnapshot.of(versions.incrementAndGet(), System.currentTimeMillis(), employees, upstream);
+        return swap(base, fresh);
+    }
+
+    /**
+     * Applies the mock server's changes since the base snapshot's roster version. Creates replace any employee with the
+     * same id, deletes of unknown ids are ignored, so changes already patched in locally are harmless to replay. The
+     * snapshot is patched per change, so the cost follows the size of the delta rather than of the roster.
+     */
+    private RosterSnapshot installChanges(Held base, EmployeeChangesDTO delta) {
+        Map<String, Employee> upserted = new LinkedHashMap<>();
+        Set<String> touched = new HashSet<>();
+        for (EmployeeChangesDTO.Change change : delta.getChanges()) {
+            touched.add(change.getId());
+            upserted.remove(change.getId());
+            if (change.getType() == EmployeeChangesDTO.Change.Type.CREATED && change.getEmployee() != null) {
+                upserted.put(change.getId(), change.getEmployee());
+            }
+        }
+
+        long version = versions.incrementAndGet();
+        RosterSnapshot patched = touched.isEmpty()
+                ? base.snapshot()
+                : base.snapshot().withChanges(List.copyOf(upserted.values()), touched, version);
+        RosterSnapshot fresh = patched.refetched(
+                version, System.currentTimeMillis(), new RosterPosition(delta.getEpoch(), delta.getVersion()));
+        log.debug(
+                "Applying {} roster changes up to mock server version {}",
+                delta.getChanges().size(),
+                delta.getVersion());
+        return swap(base, fresh);
+    }
+
+    /**
+     * Installs a snapshot refreshed from {@code base}. Local writes made since {@code base} may postdate what the mock
+     * server answered, so they are replayed onto it; creates replace by id and deletes of unknown ids are ignored, so
+     * replaying a write the mock server already reflected is harmless. Only when another refresh has installed a
+     * snapshot in the meantime is {@code fresh} dropped, in favour of that one.
+     */
+    private RosterSnapshot swap(Held base, RosterSnapshot fresh) {
+        while (true) {
+            Held latest = current.get();
+            if (latest.snapshot() != null && latest.fetched() != base.fetched()) {
+                log.debug(
+                        "Roster snapshot refreshed concurrently, keeping version {} over {}",
+                        latest.snapshot().version(),
+                        fresh.version());
+                return latest.snapshot();
+            }
+            Held installed = latest.snapshot() == null ? Held.fetched(fresh) : Held.replaying(fresh, base, latest);
+            if (current.compareAndSet(latest, installed)) {
+                log.debug(
+                        "Roster snapshot refreshed to version {} with {} employees, {} local writes replayed",
+                        fresh.version(),
+                        fresh.employees().size(),
+                        installed.writes().size());
+                return installed.snapshot();
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${employeeCache.refreshIntervalMillis:30000}",
+            fixedDelayString = "${employeeCache.refreshIntervalMillis:30000}")
+    public void refreshInBackground() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (EmployeeApiException ex) {
+            RosterSnapshot snapshot = current.get().snapshot();
+            log.warn(
+                    "Background roster refresh failed ({}), keeping snapshot version {}",
+                    ex.getStatus(),
+                    snapshot == null ? "none" : snapshot.version());
+        }
+    }
+
+    public void onEmployeeCreated(Employee employee) {
+        if (employee != null) {
+            patch(new LocalWrite(List.of(employee), Set.of()));
+        }
+    }
+
+    public void onEmployeeDeleted(String id) {
+        if (id != null) {
+            patch(new LocalWrite(List.of(), Set.of(id)));
+        }
+    }
+
+    public void onEmployeesCreated(List<Employee> employees) {
+        if (!employees.isEmpty()) {
+            patch(new LocalWrite(employees, Set.of()));
+        }
+    }
+
+    public void onEmployeesDeleted(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            patch(new LocalWrite(List.of(), Set.copyOf(ids)));
+        }
+    }
+
+    /** Patches the current snapshot, if any, under one version however often the compare-and-set is retried. */
+    private void patch(LocalWrite write) {
+        long version = 0;
+        while (true) {
+            Held held = current.get();
+            if (held.snapshot() == null) {
+                return;
+            }
+            if (version == 0) {
+                version = versions.incrementAndGet();
+            }
+            if (current.compareAndSet(held, held.with(write, version))) {
+                return;
+            }
+        }
+    }
+
+    public void invalidate() {
+        RosterSnapshot dropped = current.getAndSet(Held.NONE).snapshot();
+        if (dropped != null) {
+            invalidated.set(dropped);
+        }
+    }
+
+    private boolean isUsable(RosterSnapshot snapshot) {
+        return enabled && snapshot != null && snapshot.ageMillis(System.currentTimeMillis()) <= maxStalenessMillis;
+    }
+
+    private record LocalWrite(List<Employee> created, Set<String> deleted) {
+
+        RosterSnapshot applyTo(RosterSnapshot snapshot, long version) {
+            return snapshot.withChanges(created, deleted, version);
+        }
+    }
+
+    /**
+     * The current snapshot, the snapshot it was last refreshed to and the local writes patched in since. A refresh
+     * compares {@code fetched} with what it started from to tell whether only local writes happened in between.
+     */
+    private record Held(RosterSnapshot snapshot, RosterSnapshot fetched, PersistentVector<LocalWrite> writes) {
+
+        static final Held NONE = new Held(null, null, PersistentVector.empty());
+
+        static Held fetched(RosterSnapshot snapshot) {
+            return new Held(snapshot, snapshot, PersistentVector.empty());
+        }
+
+        /** {@code fresh} with the writes made between {@code base} and {@code latest}, in order. */
+        static Held replaying(RosterSnapshot fresh, Held base, Held latest) {
+            Held replayed = fetched(fresh);
+            for (int i = base.writes().size(); i < latest.writes().size(); i++) {
+                replayed = replayed.with(latest.writes().get(i), fresh.version());
+            }
+            return replayed;
+        }
+
+        Held with(LocalWrite write, long version) {
+            return new Held(write.applyTo(snapshot, version), fetched, writes.append(write));
+        }
+    }
+}
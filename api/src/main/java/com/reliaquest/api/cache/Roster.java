@@ -0,0 +1,136 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.PersistentSortedMap;
+import com.reliaquest.api.model.Employee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The employees of a {@link RosterSnapshot} in roster order, addressable by id. Both orderings are
+ * {@link PersistentSortedMap}s, so adding, replacing or removing an employee shares all but O(log n) nodes with the
+ * roster it was derived from. Adding an employee whose id is already present replaces it, moving it to the end.
+ */
+public final class Roster {
+
+    /** Orders ids by their cached hash first, so lookups mostly compare ints rather than strings. */
+    private static final Comparator<String> ID_ORDER =
+            Comparator.comparingInt(String::hashCode).thenComparing(Comparator.naturalOrder());
+
+    private final PersistentSortedMap<Long, Employee> bySeq;
+    private final PersistentSortedMap<String, Long> seqById;
+    private final long nextSeq;
+    private final List<Employee> employees;
+
+    private Roster(
+            PersistentSortedMap<Long, Employee> bySeq,
+            PersistentSortedMap<String, Long> seqById,
+            long nextSeq,
+            List<Employee> employees) {
+        this.bySeq = bySeq;
+        this.seqById = seqById;
+        this.nextSeq = nextSeq;
+        this.employees = employees != null ? employees : new View();
+    }
+
+    /**
+     * A roster of {@code employees} as fetched, which {@link #employees()} returns as is. The first employee with a
+     * given id is the one found by {@link #find}.
+     */
+    static Roster of(List<Employee> employees) {
+        List<Long> seqs = new ArrayList<>(employees.size());
+        List<Map.Entry<String, Long>> ids = new ArrayList<>(employees.size());
+        Set<String> seen = new HashSet<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (int i = 0; i < employees.size(); i++) {
+            seqs.add((long) i);
+            String id = employees.get(i).getId();
+            if (id != null && seen.add(id)) {
+                ids.add(Map.entry(id, (long) i));
+            }
+        }
+        ids.sort(Map.Entry.comparingByKey(ID_ORDER));
+        return new Roster(
+                PersistentSortedMap.ofSorted(Comparator.naturalOrder(), seqs, employees),
+                PersistentSortedMap.ofSorted(
+                        ID_ORDER,
+                        ids.stream().map(Map.Entry::getKey).toList(),
+                        ids.stream().map(Map.Entry::getValue).toList()),
+                employees.size(),
+                employees);
+    }
+
+    /** Employees in roster order. Only rosters built by {@link #of} are backed by a plain list. */
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public int size() {
+        return bySeq.size();
+    }
+
+    public Employee find(String id) {
+        if (id == null) {
+            return null;
+        }
+        Long seq = seqById.get(id);
+        return seq == null ? null : bySeq.get(seq);
+    }
+
+    /** This roster with {@code employee} appended, replacing any employee with the same id. */
+    Roster with(Employee employee) {
+        String id = employee.getId();
+        PersistentSortedMap<Long, Employee> patchedBySeq = bySeq;
+        PersistentSortedMap<String, Long> patchedSeqById = seqById;
+        if (id != null) {
+            Long replaced = seqById.get(id);
+            if (replaced != null) {
+                patchedBySeq = patchedBySeq.without(replaced);
+            }
+            patchedSeqById = patchedSeqById.with(id, nextSeq);
+        }
+        return new Roster(patchedBySeq.with(nextSeq, employee), patchedSeqById, nextSeq + 1, null);
+    }
+
+    Roster without(String id) {
+        Long seq = id == null ? null : seqById.get(id);
+        if (seq == null) {
+            return this;
+        }
+        return new Roster(bySeq.without(seq), seqById.without(id), nextSeq, null);
+    }
+
+    /** Read-only list over the roster tree: O(log n) by position, linear when iterated. */
+    private final class View extends AbstractList<Employee> {
+
+        @Override
+        public Employee get(int index) {
+            return bySeq.entryAt(index).getValue();
+        }
+
+        @Override
+        public int size() {
+            return bySeq.size();
+        }
+
+        @Override
+        public Iterator<Employee> iterator() {
+            Iterator<Map.Entry<Long, Employee>> entries = bySeq.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Employee next() {
+                    return entries.next().getValue();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.RosterPosition;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable, versioned copy of the employee roster as last seen from the mock server (plus any local patches), together
+ * with the indexes derived from it. {@code upstream} is the mock server's roster version the copy was last brought up to,
+ * if known; local patches keep it, as they are replayed harmlessly when catching up from there.
+ *
+ * <p>The roster and both indexes are persistent structures: a patch shares all but O(log n) of each with the snapshot it
+ * was derived from, so writes do not copy the roster. Ids are unique; an added employee replaces any with its id.
+ */
+public record RosterSnapshot(
+        long version,
+        long fetchedAtMillis,
+        Roster roster,
+        SalaryIndex salaryIndex,
+        NameSearchIndex nameIndex,
+        RosterPosition upstream) {
+
+    /** Above this share of the roster, a batch of changes rebuilds the indexes rather than patching them one by one. */
+    private static final int REBUILD_DIVISOR = 4;
+
+    static RosterSnapshot of(long version, long fetchedAtMillis, List<Employee> employees) {
+        return of(version, fetchedAtMillis, employees, null);
+    }
+
+    static RosterSnapshot of(long version, long fetchedAtMillis, List<Employee> employees, RosterPosition upstream) {
+        return new RosterSnapshot(
+                version,
+                fetchedAtMillis,
+                Roster.of(employees),
+                SalaryIndex.build(employees),
+                NameSearchIndex.build(employees),
+                upstream);
+    }
+
+    /** The same roster and indexes, confirmed current as of {@code upstream} at {@code fetchedAtMillis}. */
+    RosterSnapshot refetched(long version, long fetchedAtMillis, RosterPosition upstream) {
+        return new RosterSnapshot(version, fetchedAtMillis, roster, salaryIndex, nameIndex, upstream);
+    }
+
+    public List<Employee> employees() {
+        return roster.employees();
+    }
+
+    public long ageMillis(long nowMillis) {
+        return Math.max(0, nowMillis - fetchedAtMillis);
+    }
+
+    public Optional<Employee> findById(String id) {
+        return Optional.ofNullable(roster.find(id));
+    }
+
+    RosterSnapshot withAdded(Employee employee, long newVersion) {
+        return withChanges(List.of(employee), Set.of(), newVersion);
+    }
+
+    RosterSnapshot withRemoved(String id, long newVersion) {
+        if (roster.find(id) == null) {
+            return this;
+        }
+        return withChanges(List.of(), Set.of(id), newVersion);
+    }
+
+    /**
+     * Applies a batch of writes: employees with one of {@code removedIds} are dropped, then {@code added} is appended in
+     * order, each replacing any employee with its id. Small batches patch the roster and indexes per employee; a batch
+     * touching a large share of the roster rebuilds them once instead.
+     */
+    RosterSnapshot withChanges(List<Employee> added, Set<String> removedIds, long newVersion) {
+        if ((long) (added.size() + removedIds.size()) * REBUILD_DIVISOR > roster.size()) {
+            return rebuiltWith(added, removedIds, newVersion);
+        }
+        Roster patched = roster;
+        SalaryIndex salaries = salaryIndex;
+        NameSearchIndex names = nameIndex;
+        for (String id : removedIds) {
+            Employee removed = patched.find(id);
+            if (removed != null) {
+                patched = patched.without(id);
+                salaries = salaries.withRemoved(removed);
+                names = names.withRemoved(removed);
+            }
+        }
+        for (Employee employee : added) {
+            Employee replaced = patched.find(employee.getId());
+            if (replaced != null) {
+                salaries = salaries.withRemoved(replaced);
+                names = names.withRemoved(replaced);
+            }
+            patched = patched.with(employee);
+            salaries = salaries.withAdded(employee);
+            names = names.withAdded(employee);
+        }
+        return new RosterSnapshot(newVersion, fetchedAtMillis, patched, salaries, names, upstream);
+    }
+
+    private RosterSnapshot rebuiltWith(List<Employee> added, Set<String> removedIds, long newVersion) {
+        // As when patching one by one: an addition is superseded by a later one with the same id.
+        Map<String, Integer> lastAdded = new HashMap<>();
+        for (int i = 0; i < added.size(); i++) {
+            if (added.get(i).getId() != null) {
+                lastAdded.put(added.get(i).getId(), i);
+            }
+        }
+        List<Employee> patched = new ArrayList<>(roster.size() + added.size());
+        for (Employee employee : roster.employees()) {
+            String id = employee.getId();
+            if (id == null || !(removedIds.contains(id) || lastAdded.containsKey(id))) {
+                patched.add(employee);
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            String id = added.get(i).getId();
+            if (id == null || lastAdded.get(id) == i) {
+                patched.add(added.get(i));
+            }
+        }
+        return of(newVersion, fetchedAtMillis, List.copyOf(patched), upstream);
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.UpstreamLimiterProperties;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Paces calls to the mock server so that its rate limit is hit as rarely as possible.
+ *
+ * <p>The upstream budget is not published, so it is estimated AIMD style: the permitted rate and number of concurrent
+ * calls grow by roughly one per round of successful calls and are cut by {@code decreaseFactor} on a 429. After a 429
+ * nothing is sent until the cooldown has passed; the cooldown comes from {@code Retry-After} when the server sends it,
+ * otherwise it is learned by doubling while the first call after each cooldown is rejected again. Calls that cannot be
+ * sent within {@code maxPacingDelayMillis} fail fast with {@link UpstreamThrottledException} rather than queueing.
+ */
+@Slf4j
+@Component
+public class AdaptiveUpstreamLimiter implements ExchangeFilterFunction {
+
+    private final UpstreamLimiterProperties properties;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong throttledResponses = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    // guarded by this
+    private double permitsPerSecond;
+    private double concurrencyLimit;
+    private long nextSendAtNanos;
+    private long cooldownUntilNanos;
+    private long learnedCooldownNanos;
+    private boolean throttledSinceLastSuccess;
+
+    @Autowired
+    public AdaptiveUpstreamLimiter(UpstreamLimiterProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveUpstreamLimiter(UpstreamLimiterProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.permitsPerSecond = properties.getInitialPermitsPerSecond();
+        this.concurrencyLimit = properties.getInitialConcurrency();
+        this.learnedCooldownNanos = TimeUnit.MILLISECONDS.toNanos(properties.getInitialCooldownMillis());
+        long now = nanoClock.getAsLong();
+        this.nextSendAtNanos = now;
+        this.cooldownUntilNanos = now;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled()) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            Duration delay;
+            try {
+                delay = admit();
+            } catch (UpstreamThrottledException ex) {
+                log.debug("Not calling mock server for {} {}: {}", request.method(), request.url(), ex.getMessage());
+                return Mono.error(ex);
+            }
+            // The slot is freed once the response status arrives, before the caller sees it; cancellation and
+            // errors free it on termination instead.
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    inFlight.decrementAndGet();
+                }
+            };
+            Mono<ClientResponse> exchange = next.exchange(request).doOnNext(response -> {
+                release.run();
+                onResponse(response);
+            });
+            return (delay.isZero() ? exchange : Mono.delay(delay).then(exchange)).doFinally(signal -> release.run());
+        });
+    }
+
+    private synchronized Duration admit() {
+        long now = nanoClock.getAsLong();
+        if (now < cooldownUntilNanos) {
+            throw reject("Mock server rate limit reached", cooldownUntilNanos - now);
+        }
+        if (inFlight.get() >= (int) concurrencyLimit) {
+            throw reject("Too many concurrent calls to mock server", intervalNanos());
+        }
+        long sendAt = Math.max(now, nextSendAtNanos);
+        long wait = sendAt - now;
+        if (wait > TimeUnit.MILLISECONDS.toNanos(properties.getMaxPacingDelayMillis())) {
+            throw reject("Mock server call rate exceeded", wait);
+        }
+        nextSendAtNanos = sendAt + intervalNanos();
+        inFlight.incrementAndGet();
+        return Duration.ofNanos(wait);
+    }
+
+    private UpstreamThrottledException reject(String reason, long retryAfterNanos) {
+        rejectedCalls.incrementAndGet();
+        return new UpstreamThrottledException(reason, Duration.ofNanos(retryAfterNanos));
+    }
+
+    private void onResponse(ClientResponse response) {
+        if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            onThrottled(retryAfter(response.headers().asHttpHeaders()));
+        } else if (!response.statusCode().is5xxServerError()) {
+            onSuccess();
+        }
+    }
+
+    synchronized void onSuccess() {
+        throttledSinceLastSuccess = false;
+        permitsPerSecond = Math.min(properties.getMaxPermitsPerSecond(), permitsPerSecond + 1 / permitsPerSecond);
+        concurrencyLimit = Math.min(properties.getMaxConcurrency(), concurrencyLimit + 1 / concurrencyLimit);
+    }
+
+    synchronized void onThrottled(Duration retryAfter) {
+        throttledResponses.incrementAndGet();
+        long now = nanoClock.getAsLong();
+        if (now < cooldownUntilNanos) {
+            // Another call already reported this window.
+            return;
+        }
+        if (throttledSinceLastSuccess) {
+            learnedCooldownNanos = Math.min(
+                    TimeUnit.MILLISECONDS.toNanos(properties.getMaxCooldownMillis()), learnedCooldownNanos * 2);
+        }
+        throttledSinceLastSuccess = true;
+        permitsPerSecond =
+                Math.max(properties.getMinPermitsPerSecond(), permitsPerSecond * properties.getDecreaseFactor());
+        concurrencyLimit = Math.max(1, concurrencyLimit * properties.getDecreaseFactor());
+
+        long cooldown = retryAfter != null ? retryAfter.toNanos() : learnedCooldownNanos;
+        cooldownUntilNanos = now + cooldown;
+        nextSendAtNanos = cooldownUntilNanos;
+        log.warn(
+                "Mock server is rate limiting; pausing calls for {} ms, then {} calls/s with at most {} in flight",
+                TimeUnit.NANOSECONDS.toMillis(cooldown),
+                String.format("%.2f", permitsPerSecond),
+                (int) concurrencyLimit);
+    }
+
+    private long intervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /** Parses {@code Retry-After} as delay-seconds or an HTTP date; {@code null} when absent or malformed. */
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // not delay-seconds, try HTTP-date
+        }
+        try {
+            ZonedDateTime until = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration remaining = Duration.between(ZonedDateTime.now(until.getZone()), until);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        } catch (DateTimeParseException ex) {
+            log.debug("Ignoring malformed Retry-After header: {}", value);
+            return null;
+        }
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public synchronized int getConcurrencyLimit() {
+        return (int) concurrencyLimit;
+    }
+
+    public long getThrottledResponses() {
+        return throttledResponses.get();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+}
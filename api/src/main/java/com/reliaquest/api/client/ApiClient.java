@@ -5,15 +5,33 @@ import static com.reliaquest.api.server.TraceIdFilter.MDC_TRACE_ID_KEY;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.dto.BatchItemResult;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.RosterPosition;
 import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.UpstreamRejectedException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.response.ApiResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -21,6 +39,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -28,139 +47,549 @@ import reactor.core.publisher.Mono;
 public class ApiClient {
 
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final EmployeeJsonDecoder decoder;
+    private final ResilienceProperties.Hedge hedge;
+    private final AtomicLong hedgedCalls = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicReference<TaggedRoster> lastRoster = new AtomicReference<>();
+    private final SingleFlight<String, EmployeeDataDTO<List<Employee>>> rosterCalls = new SingleFlight<>();
+    private final SingleFlight<String, EmployeeDataDTO<Employee>> employeeCalls = new SingleFlight<>();
 
     private static final String EMPLOYEE_ENDPOINT = "/api/v1/employee";
+    private static final String EMPLOYEE_PAGE_ENDPOINT = EMPLOYEE_ENDPOINT + "/page";
+    private static final String EMPLOYEE_BATCH_ENDPOINT = EMPLOYEE_ENDPOINT + "/batch";
+    private static final String EMPLOYEE_CHANGES_ENDPOINT = EMPLOYEE_ENDPOINT + "/changes";
+    /** Largest batch the mock server accepts in one request. */
+    static final int BATCH_CHUNK_SIZE = 1000;
+
     private static final String HEADER_X_TRACE_ID = "X-Trace-Id";
+    private static final String HEADER_X_ROSTER_EPOCH = "X-Roster-Epoch";
+    private static final String HEADER_X_ROSTER_VERSION = "X-Roster-Version";
 
     public ApiClient(WebClient webClient, ObjectMapper objectMapper) {
+        this(webClient, objectMapper, new ResilienceProperties());
+    }
+
+    public ApiClient(WebClient webClient, ObjectMapper objectMapper, ResilienceProperties resilienceProperties) {
+        this(webClient, objectMapper, resilienceProperties, new HttpClientProperties());
+    }
+
+    @Autowired
+    public ApiClient(
+            WebClient webClient,
+            ObjectMapper objectMapper,
+            ResilienceProperties resilienceProperties,
+            HttpClientProperties httpClientProperties) {
         this.webClient = webClient;
-        this.objectMapper = objectMapper;
+        this.decoder = new EmployeeJsonDecoder(objectMapper, httpClientProperties.getMaxInMemorySizeBytes());
+        this.hedge = resilienceProperties.getHedge();
     }
 
     public EmployeeDataDTO<List<Employee>> getAllEmployees() {
+        return getAllEmployeesAsync().block();
+    }
+
+    /**
+     * Concurrent callers share a single upstream call; see {@link SingleFlight}.
+     */
+    public Mono<EmployeeDataDTO<List<Employee>>> getAllEmployeesAsync() {
+        return rosterCalls.execute(EMPLOYEE_ENDPOINT, this::fetchAllEmployees);
+    }
+
+    /**
+     * Sends the {@code ETag} of the last roster received as {@code If-None-Match}; on 304 the roster decoded then is
+     * returned again, the same unmodifiable list, without downloading or parsing anything. The roster is bound element
+     * by element, so it is not subject to {@link HttpClientProperties#getMaxInMemorySizeBytes()} however large it grows.
+     */
+    private Mono<EmployeeDataDTO<List<Employee>>> fetchAllEmployees() {
         log.info("Fetching all employees from mock server");
+        TaggedRoster cached = lastRoster.get();
+        return webClient
+                .get()
+                .uri(EMPLOYEE_ENDPOINT)
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .headers(headers -> {
+                    if (cached != null && cached.eTag() != null) {
+                        headers.setIfNoneMatch(cached.eTag());
+                    }
+                })
+                .attributes(UpstreamResilienceFilter.operation("getAllEmployees"))
+                .exchangeToMono(response -> {
+                    if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        notModifiedResponses.incrementAndGet();
+                        log.debug("Roster not modified since {}", cached.eTag());
+                        return response.releaseBody().then(Mono.fromSupplier(cached::toDto));
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    String eTag = headers.getETag();
+                    RosterPosition position = rosterPosition(headers);
+                    return decoder.decodeList(response.bodyToFlux(DataBuffer.class), Employee.class)
+                            .map(dto -> remember(eTag, position, dto));
+                })
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), this::mapRosterError);
+    }
+
+    private EmployeeDataDTO<List<Employee>> remember(
+            String eTag, RosterPosition position, EmployeeDataDTO<List<Employee>> dto) {
+        if ((eTag == null && position == null)
+                || dto.getData() == null
+                || dto.getData().contains(null)) {
+            lastRoster.set(null);
+            return dto;
+        }
+        TaggedRoster roster = new TaggedRoster(eTag, position, List.copyOf(dto.getData()), dto.getStatus());
+        lastRoster.set(roster);
+        return roster.toDto();
+    }
+
+    private static RosterPosition rosterPosition(HttpHeaders headers) {
+        String epoch = headers.getFirst(HEADER_X_ROSTER_EPOCH);
+        String version = headers.getFirst(HEADER_X_ROSTER_VERSION);
+        if (epoch == null || version == null) {
+            return null;
+        }
         try {
-            String response = webClient
-                    .get()
-                    .uri(EMPLOYEE_ENDPOINT)
-                    .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            return objectMapper.readValue(response, new TypeReference<EmployeeDataDTO<List<Employee>>>() {});
-
-        } catch (WebClientResponseException ex) {
-            log.error("Server responded with error :{}, body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
-            if (status == null) {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
-            throw new EmployeeApiException("Error from mock server: " + ex.getMessage(), status);
-        } catch (WebClientRequestException ex) {
-            log.error("Cannot connect to mock server: {}", ex);
-            throw new EmployeeApiException("Unable to connect to mock server", HttpStatus.SERVICE_UNAVAILABLE);
-        } catch (JsonProcessingException ex) {
-            log.error("Error parsing JSON from mock server", ex);
-            throw new EmployeeApiException("Error parsing JSON from mock server", HttpStatus.INTERNAL_SERVER_ERROR);
-        } catch (Exception ex) {
-            log.error("Unexpected error", ex);
-            throw new EmployeeApiException("Unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR);
+            return new RosterPosition(epoch, Long.parseLong(version));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed roster version from mock server: {}", version);
+            return null;
+        }
+    }
+
+    /**
+     * The mock server's roster version for a roster this client returned, to catch up from with
+     * {@link #getEmployeeChanges}. Empty for any other list, or when the mock server did not send one.
+     */
+    public Optional<RosterPosition> rosterPosition(List<Employee> roster) {
+        TaggedRoster last = lastRoster.get();
+        return last != null && last.employees() == roster ? Optional.ofNullable(last.position()) : Optional.empty();
+    }
+
+    public EmployeeChangesDTO getEmployeeChanges(RosterPosition since) {
+        return getEmployeeChangesAsync(since).block();
+    }
+
+    /**
+     * Fetches the creates and deletes since a roster version. Fails with {@link HttpStatus#GONE} when the mock server
+     * can no longer tell, e.g. its change log has moved past {@code since} or it was restarted; the roster has to be
+     * fetched in full then.
+     */
+    public Mono<EmployeeChangesDTO> getEmployeeChangesAsync(RosterPosition since) {
+        log.debug("Fetching roster changes since version {} from mock server", since.version());
+        Flux<DataBuffer> response = webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(EMPLOYEE_CHANGES_ENDPOINT)
+                        .queryParam("since", since.version())
+                        .queryParam("epoch", since.epoch())
+                        .build())
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("getEmployeeChanges"))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<EmployeeChangesDTO>>() {})
+                .mapNotNull(EmployeeDataDTO::getData)
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), this::mapRosterError);
+    }
+
+    /** Number of roster fetches answered 304 and served from the previously decoded roster. */
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    private record TaggedRoster(String eTag, RosterPosition position, List<Employee> employees, String status) {
+
+        EmployeeDataDTO<List<Employee>> toDto() {
+            EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+            dto.setData(employees);
+            dto.setStatus(status);
+            return dto;
         }
     }
 
+    /**
+     * Streams the roster element by element as the response arrives instead of binding the whole payload first.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        log.info("Streaming all employees from mock server");
+        Flux<DataBuffer> response = webClient
+                .get()
+                .uri(EMPLOYEE_ENDPOINT)
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("getAllEmployees"))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decodeElements(response, Employee.class)
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), this::mapRosterError);
+    }
+
+    /**
+     * Fetches one page of the roster. Pass {@code null} as the cursor for the first page and the previous page's
+     * {@code nextCursor} afterwards.
+     */
+    public Mono<EmployeePageDTO> getEmployeePageAsync(String cursor, int limit) {
+        log.debug("Fetching employee page (cursor: {}, limit: {}) from mock server", cursor, limit);
+        Flux<DataBuffer> response = webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(EMPLOYEE_PAGE_ENDPOINT)
+                        .queryParam("limit", limit)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("getEmployeePage"))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<EmployeePageDTO>>() {})
+                .mapNotNull(EmployeeDataDTO::getData)
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), this::mapRosterError);
+    }
+
+    /**
+     * Walks the roster page by page. Nothing is requested until subscription, the next page is requested as soon as
+     * the previous one arrives (so one page is in flight while the current one is consumed) and cancelling stops the
+     * walk. Pages are chained through their cursors, so they cannot be fetched out of order.
+     */
+    public Flux<Employee> pageAllEmployees(int pageSize) {
+        return getEmployeePageAsync(null, pageSize)
+                .expand(page -> page.getNextCursor() == null
+                        ? Mono.empty()
+                        : getEmployeePageAsync(page.getNextCursor(), pageSize))
+                .concatMapIterable(page -> page.getItems() == null ? List.of() : page.getItems());
+    }
+
     public EmployeeDataDTO<Employee> getEmployeeById(String id) {
-        log.info("Fetching employee with id: {} from mock server", id);
-        try {
-            String response = webClient
-                    .get()
-                    .uri(uriBuilder ->
-                            uriBuilder.path(EMPLOYEE_ENDPOINT + "/{id}").build(id))
-                    .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            return objectMapper.readValue(response, new TypeReference<EmployeeDataDTO<Employee>>() {});
-        } catch (WebClientResponseException ex) {
-            log.error("Server responded with error :{}, body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
-            if (status == null) {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            } else if (status.isSameCodeAs(HttpStatus.NOT_FOUND)) {
-                throw new EmployeeApiException("Unable to connect to mock server", status);
-            } else if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
-                throw new EmployeeApiException("Too many requests", status);
-            }
-            throw new EmployeeApiException("Internal Server Error", status);
-        } catch (WebClientRequestException ex) {
-            log.error("Cannot connect to mock server: {}", ex.getMessage());
-            throw new EmployeeApiException("Unable to connect to mock server", HttpStatus.SERVICE_UNAVAILABLE);
-        } catch (Exception ex) {
-            log.error("Unexpected error", ex);
-            throw new EmployeeApiException("Unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR);
+        return getEmployeeByIdAsync(id).block();
+    }
+
+    /**
+     * Concurrent callers asking for the same id share a single upstream call; see {@link SingleFlight}. With hedging
+     * enabled that call may be duplicated; see {@link #hedged}.
+     */
+    public Mono<EmployeeDataDTO<Employee>> getEmployeeByIdAsync(String id) {
+        return employeeCalls.execute(
+                id, () -> hedge.isEnabled() ? hedged(() -> fetchEmployeeById(id)) : fetchEmployeeById(id));
+    }
+
+    /**
+     * Sends a second, identical call if the first has not answered within {@code hedge.delayMillis} and takes
+     * whichever answers first, cancelling the other. Only reads that are safe to repeat may be hedged. An answer from
+     * the first call, error or not, always counts; the hedge's errors are ignored, so rejecting it (e.g. by the
+     * bulkhead) never fails a call the first one could still serve.
+     */
+    private <T> Mono<T> hedged(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Mono<T> primary = call.get().share();
+            // Assembled on a timer thread, so it is given the caller's trace id and deadline explicitly.
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            Mono<T> hedgeCall = Mono.defer(() -> {
+                        hedgedCalls.incrementAndGet();
+                        Map<String, String> previous = MDC.getCopyOfContextMap();
+                        setMdc(context);
+                        try {
+                            return call.get();
+                        } finally {
+                            setMdc(previous);
+                        }
+                    })
+                    .onErrorResume(ex -> {
+                        log.debug("Hedged call failed, waiting for the first one: {}", ex.getMessage());
+                        return Mono.never();
+                    });
+            return Mono.firstWithSignal(
+                    primary,
+                    Mono.delay(Duration.ofMillis(hedge.getDelayMillis()))
+                            .then(Mono.firstWithSignal(primary, hedgeCall)));
+        });
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
         }
     }
 
+    /** Calls duplicated by hedging. */
+    public long getHedgedCalls() {
+        return hedgedCalls.get();
+    }
+
+    private Mono<EmployeeDataDTO<Employee>> fetchEmployeeById(String id) {
+        log.info("Fetching employee with id: {} from mock server", id);
+        Flux<DataBuffer> response = webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path(EMPLOYEE_ENDPOINT + "/{id}").build(id))
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("getEmployeeById"))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<Employee>>() {})
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), ex -> {
+                    if (ex instanceof WebClientResponseException responseException) {
+                        log.error(
+                                "Server responded with error :{}, body: {}",
+                                responseException.getStatusCode(),
+                                responseException.getResponseBodyAsString());
+                        HttpStatus status = resolveStatus(responseException);
+                        if (status.isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                            return new EmployeeApiException("Unable to connect to mock server", status);
+                        } else if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                            return new EmployeeApiException("Too many requests", status);
+                        }
+                        return new EmployeeApiException("Internal Server Error", status);
+                    } else if (ex instanceof WebClientRequestException) {
+                        log.error("Cannot connect to mock server: {}", ex.getMessage());
+                        return new EmployeeApiException(
+                                "Unable to connect to mock server", HttpStatus.SERVICE_UNAVAILABLE);
+                    }
+                    log.error("Unexpected error", ex);
+                    return new EmployeeApiException("Unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR);
+                });
+    }
+
+    /**
+     * Returns the removed employee, or {@code null} when the mock server does not know the id.
+     */
+    public Employee deleteEmployeeById(String id) {
+        return deleteEmployeeByIdAsync(id).block();
+    }
+
+    /**
+     * Deletes in a single call to the mock server; completes empty when the id is unknown.
+     */
+    public Mono<Employee> deleteEmployeeByIdAsync(String id) {
+        log.info("Deleting employee with id: {}", id);
+        Flux<DataBuffer> response = webClient
+                .delete()
+                .uri(uriBuilder -> uriBuilder.path(EMPLOYEE_ENDPOINT + "/{id}").build(id))
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("deleteEmployeeById"))
+                .retrieve()
+                // A 404 carries an empty Response, which decodes to no data below.
+                .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND), notFound -> Mono.empty())
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<Employee>>() {})
+                .mapNotNull(EmployeeDataDTO::getData)
+                .doOnNext(deleted -> log.info("Employee {} deleted successfully", id))
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), ex -> {
+                    if (ex instanceof WebClientResponseException responseException) {
+                        log.error(
+                                "Server responded with error :{}, body: {}",
+                                responseException.getStatusCode(),
+                                responseException.getResponseBodyAsString());
+                        return new EmployeeApiException(
+                                "Error deleting employee: " + id, resolveStatus(responseException), ex);
+                    } else if (ex instanceof WebClientRequestException) {
+                        log.error("Cannot connect to mock server: {}", ex.getMessage());
+                        return new EmployeeApiException(
+                                "Unable to connect to mock server", HttpStatus.SERVICE_UNAVAILABLE, ex);
+                    }
+                    log.error("Unexpected error during delete", ex);
+                    return new EmployeeApiException("Failed to delete employee", HttpStatus.INTERNAL_SERVER_ERROR, ex);
+                });
+    }
+
     public boolean deleteEmployeeByName(String name) {
+        return Boolean.TRUE.equals(deleteEmployeeByNameAsync(name).block());
+    }
+
+    public Mono<Boolean> deleteEmployeeByNameAsync(String name) {
         log.info("Deleting employee data with name: {}", name);
-        try {
-            String response = webClient
-                    .method(HttpMethod.DELETE)
-                    .uri(EMPLOYEE_ENDPOINT)
-                    .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(Map.of("name", name))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            log.info("Server response: {}", response);
-
-            ApiResponse<Boolean> result =
-                    objectMapper.readValue(response, new TypeReference<ApiResponse<Boolean>>() {});
-            if (Boolean.TRUE.equals(result.getData())) {
-                log.info("Employee {} deleted successfully", name);
-                return true;
-            } else {
-                throw new EmployeeApiException("Failed to delete employee" + name, HttpStatus.BAD_REQUEST);
-            }
-
-        } catch (WebClientResponseException ex) {
-            log.error("Server responded with error :{}, body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
-            if (status == null) {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
-            throw new EmployeeApiException("Error deleting employee: " + name, status, ex);
-        } catch (Exception ex) {
-            log.error("Unexpected error during delete", ex);
-            throw new EmployeeApiException("Failed to delete employee", HttpStatus.INTERNAL_SERVER_ERROR, ex);
-        }
+        Flux<DataBuffer> response = webClient
+                .method(HttpMethod.DELETE)
+                .uri(EMPLOYEE_ENDPOINT)
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("deleteEmployeeByName"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", name))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<ApiResponse<Boolean>>() {})
+                .doOnNext(result -> log.info("Server response: {}", result))
+                .flatMap(result -> {
+                    if (Boolean.TRUE.equals(result.getData())) {
+                        log.info("Employee {} deleted successfully", name);
+                        return Mono.just(true);
+                    }
+                    return Mono.<Boolean>error(
+                            new EmployeeApiException("Failed to delete employee" + name, HttpStatus.BAD_REQUEST));
+                })
+                .onErrorMap(ex -> !(ex instanceof UpstreamRejectedException), ex -> {
+                    if (ex instanceof WebClientResponseException responseException) {
+                        log.error(
+                                "Server responded with error :{}, body: {}",
+                                responseException.getStatusCode(),
+                                responseException.getResponseBodyAsString());
+                        return new EmployeeApiException(
+                                "Error deleting employee: " + name, resolveStatus(responseException), ex);
+                    }
+                    log.error("Unexpected error during delete", ex);
+                    return new EmployeeApiException("Failed to delete employee", HttpStatus.INTERNAL_SERVER_ERROR, ex);
+                });
     }
 
     public EmployeeDataDTO<Employee> createEmployee(EmployeeCreateRequest request) {
-        try {
-            String response = webClient
-                    .post()
-                    .uri(EMPLOYEE_ENDPOINT)
-                    .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
-                    .body(Mono.just(request), EmployeeCreateRequest.class)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            return objectMapper.readValue(response, new TypeReference<EmployeeDataDTO<Employee>>() {});
-        } catch (WebClientResponseException ex) {
-            log.error("Server responded with error :{}, body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
-            if (status == null) {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
-            throw new EmployeeApiException("Error creating employee", status, ex);
-        } catch (Exception ex) {
-            log.error("Error creating employee", ex);
-            throw new EmployeeApiException("Unable to create employee", HttpStatus.INTERNAL_SERVER_ERROR, ex);
+        return createEmployeeAsync(request).block();
+    }
+
+    public Mono<EmployeeDataDTO<Employee>> createEmployeeAsync(EmployeeCreateRequest request) {
+        Flux<DataBuffer> response = webClient
+                .post()
+                .uri(EMPLOYEE_ENDPOINT)
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation("createEmployee"))
+                .body(Mono.just(request), EmployeeCreateRequest.class)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<Employee>>() {})
+                .onErrorMap(ex -> !(ex instanceof UpstreamRejectedException), ex -> {
+                    if (ex instanceof WebClientResponseException responseException) {
+                        log.error(
+                                "Server responded with error :{}, body: {}",
+                                responseException.getStatusCode(),
+                                responseException.getResponseBodyAsString());
+                        return new EmployeeApiException(
+                                "Error creating employee", resolveStatus(responseException), ex);
+                    }
+                    log.error("Error creating employee", ex);
+                    return new EmployeeApiException("Unable to create employee", HttpStatus.INTERNAL_SERVER_ERROR, ex);
+                });
+    }
+
+    public List<BatchItemResult<Employee>> createEmployees(List<EmployeeCreateRequest> requests) {
+        return createEmployeesAsync(requests).block();
+    }
+
+    /**
+     * Creates employees through the mock server's batch endpoint, {@value #BATCH_CHUNK_SIZE} per request. Results are
+     * in request order; see {@link #inChunks} for how failures are reported.
+     */
+    public Mono<List<BatchItemResult<Employee>>> createEmployeesAsync(List<EmployeeCreateRequest> requests) {
+        log.info("Creating {} employees in batches of up to {}", requests.size(), BATCH_CHUNK_SIZE);
+        return inChunks(requests, chunk -> sendBatch(HttpMethod.POST, chunk));
+    }
+
+    public List<BatchItemResult<Employee>> deleteEmployeesById(List<String> ids) {
+        return deleteEmployeesByIdAsync(ids).block();
+    }
+
+    /**
+     * Deletes employees by id through the mock server's batch endpoint, {@value #BATCH_CHUNK_SIZE} per request.
+     * Deleted items carry the removed employee.
+     */
+    public Mono<List<BatchItemResult<Employee>>> deleteEmployeesByIdAsync(List<String> ids) {
+        log.info("Deleting {} employees in batches of up to {}", ids.size(), BATCH_CHUNK_SIZE);
+        return inChunks(ids, chunk -> sendBatch(HttpMethod.DELETE, chunk));
+    }
+
+    /**
+     * Sends the chunks one after another. If the first chunk fails nothing has been applied and the error is
+     * propagated; a later chunk failing reports its items as {@link BatchItemResult.Status#FAILED} so the caller still
+     * learns which items were applied. Once a chunk is throttled or rejected by the mock server or the circuit breaker,
+     * the chunks after it are reported as failed without being sent, since they would only meet the same answer.
+     */
+    private <I> Mono<List<BatchItemResult<Employee>>> inChunks(
+            List<I> items, Function<List<I>, Mono<List<BatchItemResult<Employee>>>> send) {
+        List<List<I>> chunks = Lists.partition(items, BATCH_CHUNK_SIZE);
+        return Mono.defer(() -> {
+            AtomicReference<EmployeeApiException> stoppedBy = new AtomicReference<>();
+            return Flux.range(0, chunks.size())
+                    .concatMap(chunk -> {
+                        int offset = chunk * BATCH_CHUNK_SIZE;
+                        List<I> chunkItems = chunks.get(chunk);
+                        if (stoppedBy.get() != null) {
+                            return Mono.just(failed(offset, chunkItems, stoppedBy.get()));
+                        }
+                        return send.apply(chunkItems)
+                                .map(results -> {
+                                    results.forEach(result -> result.setIndex(result.getIndex() + offset));
+                                    return results;
+                                })
+                                .onErrorResume(EmployeeApiException.class, ex -> {
+                                    if (chunk == 0) {
+                                        return Mono.error(ex);
+                                    }
+                                    if (stopsBatch(ex)) {
+                                        stoppedBy.set(ex);
+                                    }
+                                    return Mono.just(failed(offset, chunkItems, ex));
+                                });
+                    })
+                    .concatMapIterable(results -> results)
+                    .collectList();
+        });
+    }
+
+    private static boolean stopsBatch(EmployeeApiException ex) {
+        return ex instanceof UpstreamRejectedException
+                || ex.getStatus() == HttpStatus.TOO_MANY_REQUESTS
+                || ex.getStatus() == HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    private static String batchOperation(HttpMethod method) {
+        return method == HttpMethod.POST ? "createEmployees" : "deleteEmployeesById";
+    }
+
+    private Mono<List<BatchItemResult<Employee>>> sendBatch(HttpMethod method, List<?> chunk) {
+        Flux<DataBuffer> response = webClient
+                .method(method)
+                .uri(EMPLOYEE_BATCH_ENDPOINT)
+                .header(HEADER_X_TRACE_ID, MDC.get(MDC_TRACE_ID_KEY))
+                .attributes(UpstreamResilienceFilter.operation(batchOperation(method)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(chunk)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return decoder.decode(response, new TypeReference<EmployeeDataDTO<List<BatchItemResult<Employee>>>>() {})
+                .mapNotNull(EmployeeDataDTO::getData)
+                .onErrorMap(ex -> !(ex instanceof EmployeeApiException), this::mapRosterError);
+    }
+
+    private static List<BatchItemResult<Employee>> failed(int offset, List<?> chunk, EmployeeApiException ex) {
+        log.warn("Batch chunk at offset {} failed ({}), reporting {} items as failed", offset, ex, chunk.size());
+        return IntStream.range(0, chunk.size())
+                .mapToObj(i ->
+                        new BatchItemResult<Employee>(offset + i, BatchItemResult.Status.FAILED, null, ex.getMessage()))
+                .toList();
+    }
+
+    private EmployeeApiException mapRosterError(Throwable ex) {
+        if (ex instanceof EmployeeJsonDecoder.JsonDecodingException) {
+            ex = ex.getCause();
         }
+        if (ex instanceof WebClientResponseException responseException) {
+            log.error(
+                    "Server responded with error :{}, body: {}",
+                    responseException.getStatusCode(),
+                    responseException.getResponseBodyAsString());
+            return new EmployeeApiException(
+                    "Error from mock server: " + ex.getMessage(), resolveStatus(responseException));
+        } else if (ex instanceof WebClientRequestException) {
+            log.error("Cannot connect to mock server: {}", ex);
+            return new EmployeeApiException("Unable to connect to mock server", HttpStatus.SERVICE_UNAVAILABLE);
+        } else if (ex instanceof JsonProcessingException) {
+            log.error("Error parsing JSON from mock server", ex);
+            return new EmployeeApiException("Error parsing JSON from mock server", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        log.error("Unexpected error", ex);
+        return new EmployeeApiException("Unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static HttpStatus resolveStatus(WebClientResponseException ex) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        return status == null ? HttpStatus.INTERNAL_SERVER_ERROR : status;
     }
 }
@@ -0,0 +1,146 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.exception.UpstreamRejectedException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Count-based circuit breaker for one mock server operation.
+ *
+ * <p>Closed, it records the outcome of the last {@code slidingWindowSize} calls and opens once at least
+ * {@code minimumCalls} are recorded and the failure rate reaches {@code failureRateThreshold}. Open, it rejects calls
+ * for {@code openDurationMillis}, then lets up to {@code halfOpenCalls} probes through: if they all succeed the breaker
+ * closes with an empty window, the first failure opens it again.
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final ResilienceProperties.CircuitBreaker properties;
+    private final LongSupplier nanoClock;
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] failures;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+    private long openUntilNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(String name, ResilienceProperties.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.name = name;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.failures = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+    }
+
+    /**
+     * Admits a call or throws. Returns whether the call is a half-open probe, which must be passed back with its
+     * outcome.
+     */
+    synchronized boolean acquire() {
+        if (state == State.OPEN) {
+            long remaining = openUntilNanos - nanoClock.getAsLong();
+            if (remaining > 0) {
+                throw reject(remaining);
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= properties.getHalfOpenCalls()) {
+                throw reject(0);
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void onSuccess(boolean probe) {
+        if (probe) {
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                if (++probeSuccesses >= properties.getHalfOpenCalls()) {
+                    transition(State.CLOSED);
+                }
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(boolean probe) {
+        if (probe) {
+            if (state == State.HALF_OPEN) {
+                open();
+            }
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= properties.getMinimumCalls()
+                    && windowFailures * 100 >= properties.getFailureRateThreshold() * windowCount) {
+                open();
+            }
+        }
+    }
+
+    /** The call ended without telling anything about the mock server, e.g. it was cancelled or not sent. */
+    synchronized void onIgnored(boolean probe) {
+        if (probe && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == failures.length) {
+            windowFailures -= failures[windowNext] ? 1 : 0;
+        } else {
+            windowCount++;
+        }
+        failures[windowNext] = failed;
+        windowFailures += failed ? 1 : 0;
+        windowNext = (windowNext + 1) % failures.length;
+    }
+
+    private void open() {
+        openUntilNanos = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(properties.getOpenDurationMillis());
+        transition(State.OPEN);
+        log.warn("Circuit breaker for {} opened; rejecting calls for {} ms", name, properties.getOpenDurationMillis());
+    }
+
+    private void transition(State next) {
+        if (next != State.OPEN) {
+            log.info("Circuit breaker for {} is {}", name, next);
+        }
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.CLOSED) {
+            windowNext = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    private UpstreamRejectedException reject(long retryAfterNanos) {
+        return new UpstreamRejectedException(
+                "Mock server is unavailable for " + name,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                retryAfterNanos > 0 ? Duration.ofNanos(retryAfterNanos) : null);
+    }
+}
@@ -0,0 +1,183 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.exception.EmployeeApiException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decodes mock server responses straight from the response {@link DataBuffer}s, without first materialising the body
+ * as a {@code String}.
+ *
+ * <p>{@link #decode} binds a whole payload. {@link #decodeElements} runs Jackson's non-blocking parser over the buffers
+ * as they arrive and emits each element of the top-level {@code "data"} array as soon as it is complete, so memory is
+ * bounded by one element rather than the whole roster. {@link #decodeList} collects those elements into an
+ * {@link EmployeeDataDTO}, so a whole roster is bound without ever holding its body.
+ *
+ * <p>{@link #decode} buffers at most {@code maxInMemorySize} bytes (-1 for no limit); a larger body fails with an
+ * {@link EmployeeApiException} for {@link HttpStatus#BAD_GATEWAY} rather than being held in memory. The element-wise
+ * methods are not limited, since they never buffer more than one element. A streamed body that only turns out to be
+ * malformed once it has ended also fails with {@link HttpStatus#BAD_GATEWAY}.
+ */
+public class EmployeeJsonDecoder {
+
+    private static final String DATA_FIELD = "data";
+    private static final String STATUS_FIELD = "status";
+
+    private final ObjectMapper objectMapper;
+    private final int maxInMemorySize;
+
+    public EmployeeJsonDecoder(ObjectMapper objectMapper, int maxInMemorySize) {
+        this.objectMapper = objectMapper;
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    public <T> Mono<T> decode(Flux<DataBuffer> body, TypeReference<T> type) {
+        return DataBufferUtils.join(body, maxInMemorySize)
+                .onErrorMap(
+                        DataBufferLimitException.class,
+                        ex -> new EmployeeApiException(
+                                "Response from mock server exceeds " + maxInMemorySize + " bytes",
+                                HttpStatus.BAD_GATEWAY,
+                                ex))
+                .flatMap(buffer -> Mono.fromCallable(() -> {
+                    try {
+                        return objectMapper.readValue(buffer.asInputStream(), type);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                }));
+    }
+
+    public <T> Flux<T> decodeElements(Flux<DataBuffer> body, Class<T> elementType) {
+        return Flux.defer(() -> elements(body, new ElementTokenizer<>(elementType)));
+    }
+
+    /**
+     * Binds a {@code {"data": [...], "status": ...}} payload element by element. {@code data} is {@code null} when the
+     * payload has no {@code "data"} array.
+     */
+    public <T> Mono<EmployeeDataDTO<List<T>>> decodeList(Flux<DataBuffer> body, Class<T> elementType) {
+        return Mono.defer(() -> {
+            ElementTokenizer<T> tokenizer = new ElementTokenizer<>(elementType);
+            return elements(body, tokenizer).collectList().map(decoded -> {
+                EmployeeDataDTO<List<T>> dto = new EmployeeDataDTO<>();
+                dto.setData(tokenizer.sawDataArray ? decoded : null);
+                dto.setStatus(tokenizer.status);
+                return dto;
+            });
+        });
+    }
+
+    private static <T> Flux<T> elements(Flux<DataBuffer> body, ElementTokenizer<T> tokenizer) {
+        return body.concatMapIterable(tokenizer::feed).concatWith(Flux.defer(tokenizer::finish));
+    }
+
+    private final class ElementTokenizer<T> {
+
+        private final Class<T> elementType;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean dataFieldPending;
+        private boolean inDataArray;
+        private TokenBuffer element;
+        private boolean sawDataArray;
+        private String status;
+
+        ElementTokenizer(Class<T> elementType) {
+            this.elementType = elementType;
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unable to create non-blocking JSON parser", ex);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<T> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException ex) {
+                throw new JsonDecodingException(ex);
+            }
+        }
+
+        Flux<T> finish() {
+            feeder.endOfInput();
+            try {
+                List<T> remaining = drain();
+                if (depth != 0 || element != null) {
+                    return Flux.error(new JsonDecodingException(
+                            new IOException("Unexpected end of JSON input while decoding " + elementType.getName())));
+                }
+                return Flux.fromIterable(remaining);
+            } catch (IOException ex) {
+                return Flux.error(
+                        new EmployeeApiException("Error parsing JSON from mock server", HttpStatus.BAD_GATEWAY, ex));
+            }
+        }
+
+        private List<T> drain() throws IOException {
+            List<T> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                }
+
+                if (token.isStructStart()) {
+                    depth++;
+                    if (inDataArray && depth == 3 && element == null) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                    }
+                    if (dataFieldPending && token == JsonToken.START_ARRAY) {
+                        inDataArray = true;
+                        sawDataArray = true;
+                    }
+                } else if (token.isStructEnd()) {
+                    depth--;
+                    if (inDataArray && depth == 2 && element != null) {
+                        decoded.add(objectMapper.readValue(element.asParser(objectMapper), elementType));
+                        element = null;
+                    } else if (inDataArray && depth == 1) {
+                        inDataArray = false;
+                    }
+                } else if (depth == 1 && token == JsonToken.VALUE_STRING && STATUS_FIELD.equals(parser.currentName())) {
+                    status = parser.getText();
+                }
+                dataFieldPending =
+                        token == JsonToken.FIELD_NAME && depth == 1 && DATA_FIELD.equals(parser.currentName());
+            }
+            return decoded;
+        }
+    }
+
+    /**
+     * Carries a checked Jackson failure out of a {@code concatMapIterable} mapper; unwrapped by {@link ApiClient}.
+     */
+    static final class JsonDecodingException extends RuntimeException {
+        JsonDecodingException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
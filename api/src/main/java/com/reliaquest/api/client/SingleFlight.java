@@ -0,0 +1,89 @@
+package com.reliaquest.api.client;
+
+import static com.reliaquest.api.server.TraceIdFilter.MDC_TRACE_ID_KEY;
+
+import com.reliaquest.api.server.DeadlineFilter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight, further callers for that key subscribe to
+ * it instead of starting their own, and all of them receive its value or error.
+ *
+ * <p>Only calls that overlap are shared. The key is forgotten as soon as the call terminates, so a caller arriving
+ * afterwards always starts a fresh call and never sees an older result than it would have without coalescing. The
+ * call is cancelled only once every caller sharing it has cancelled.
+ *
+ * <p>A call runs under the deadline of the caller that started it (see {@link DeadlineFilter}), so a caller only joins
+ * it when its own deadline is no later; one with more time left starts its own call, which later callers for the key
+ * join instead. Callers without a deadline have all the time there is.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder joined = new LongAdder();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            long deadline = callerDeadline();
+            String traceId = MDC.get(MDC_TRACE_ID_KEY);
+            boolean[] started = {false};
+            Flight<V> flight = inFlight.compute(key, (k, leading) -> {
+                if (leading != null && deadline <= leading.deadline()) {
+                    return leading;
+                }
+                started[0] = true;
+                return share(k, call, deadline, traceId);
+            });
+            if (!started[0]) {
+                joined.increment();
+                log.debug(
+                        "Trace {} joined the call in flight for {} started by trace {}",
+                        traceId,
+                        key,
+                        flight.traceId());
+            }
+            return flight.shared();
+        });
+    }
+
+    private Flight<V> share(K key, Supplier<Mono<V>> call, long deadline, String traceId) {
+        AtomicReference<Flight<V>> self = new AtomicReference<>();
+        // Removed before the result is propagated, so no caller can join a call that has already delivered.
+        Runnable forget = () -> inFlight.remove(key, self.get());
+        Mono<V> shared =
+                Mono.defer(call).doOnTerminate(forget).doOnCancel(forget).share();
+        self.set(new Flight<>(shared, deadline, traceId));
+        return self.get();
+    }
+
+    private static long callerDeadline() {
+        String deadline = MDC.get(DeadlineFilter.MDC_DEADLINE_KEY);
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(deadline);
+        } catch (NumberFormatException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /** Callers that were served by another caller's call instead of starting their own. */
+    public long joinedCount() {
+        return joined.sum();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private record Flight<V>(Mono<V> shared, long deadline, String traceId) {}
+}
@@ -0,0 +1,225 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.exception.UpstreamRejectedException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.server.DeadlineFilter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rejects calls to the mock server straight away when they cannot be served in time, instead of letting them wait for
+ * a round trip to a server that is down or rate limiting.
+ *
+ * <p>Each operation, named with {@link #operation}, has its own {@link CircuitBreaker}; 5xx and 429 responses,
+ * connection errors and timeouts count as failures. Reads and writes each have a bulkhead bounding their concurrent
+ * calls, so a backlog of one cannot starve the other. Every call is bounded by the read or write timeout, or by the
+ * caller's deadline from {@link DeadlineFilter} when that is sooner, and the time left is passed on to the mock server
+ * in {@value DeadlineFilter#DEADLINE_HEADER}.
+ *
+ * <p>A call lasts until its response body has been read, completed or cancelled: the deadline covers the body and the
+ * bulkhead permit is only returned then, so a mock server that sends headers and stalls still counts against both.
+ * WebClient always consumes or releases the body of a response it hands to a caller, which settles the call.
+ */
+@Slf4j
+@Component
+public class UpstreamResilienceFilter implements ExchangeFilterFunction {
+
+    private static final String OPERATION_ATTRIBUTE = UpstreamResilienceFilter.class.getName() + ".operation";
+    private static final String DEADLINE_ATTRIBUTE = UpstreamResilienceFilter.class.getName() + ".deadline";
+
+    private final ResilienceProperties properties;
+    private final LongSupplier millisClock;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Semaphore reads;
+    private final Semaphore writes;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    @Autowired
+    public UpstreamResilienceFilter(ResilienceProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    UpstreamResilienceFilter(ResilienceProperties properties, LongSupplier millisClock) {
+        this.properties = properties;
+        this.millisClock = millisClock;
+        this.reads = new Semaphore(properties.getBulkhead().getMaxConcurrentReads());
+        this.writes = new Semaphore(properties.getBulkhead().getMaxConcurrentWrites());
+    }
+
+    /**
+     * Request attributes naming the operation a call belongs to. Also captures the current request's deadline, so it
+     * must be applied on the thread serving that request.
+     */
+    public static Consumer<Map<String, Object>> operation(String name) {
+        String deadline = MDC.get(DeadlineFilter.MDC_DEADLINE_KEY);
+        return attributes -> {
+            attributes.put(OPERATION_ATTRIBUTE, name);
+            if (deadline != null) {
+                attributes.put(DEADLINE_ATTRIBUTE, Long.parseLong(deadline));
+            }
+        };
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled()) {
+            return next.exchange(request);
+        }
+        String operation = request.attribute(OPERATION_ATTRIBUTE)
+                .map(String.class::cast)
+                .orElseGet(() -> request.method().name());
+        boolean read = request.method() == HttpMethod.GET || request.method() == HttpMethod.HEAD;
+
+        return Mono.defer(() -> {
+            long budgetMillis = budgetMillis(request, read);
+            if (budgetMillis <= 0) {
+                return reject(new UpstreamRejectedException(
+                        "Deadline passed before calling mock server for " + operation,
+                        HttpStatus.GATEWAY_TIMEOUT,
+                        null));
+            }
+            Semaphore bulkhead = read ? reads : writes;
+            if (!bulkhead.tryAcquire()) {
+                return reject(new UpstreamRejectedException(
+                        "Too many concurrent " + (read ? "reads from" : "writes to") + " mock server",
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        null));
+            }
+            CircuitBreaker breaker = breaker(operation);
+            boolean probe;
+            try {
+                probe = breaker.acquire();
+            } catch (UpstreamRejectedException ex) {
+                bulkhead.release();
+                return reject(ex);
+            }
+
+            Call call = new Call(bulkhead, breaker, probe);
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+            ClientRequest withDeadline = ClientRequest.from(request)
+                    .header(DeadlineFilter.DEADLINE_HEADER, String.valueOf(budgetMillis))
+                    .build();
+            // The permit is held, and the deadline applies, until the body has been read, not just the headers.
+            AtomicBoolean responded = new AtomicBoolean();
+            return next.exchange(withDeadline)
+                    .timeout(untilDeadline(deadlineNanos))
+                    .onErrorMap(TimeoutException.class, ex -> timedOut(operation, budgetMillis))
+                    .map(response -> {
+                        responded.set(true);
+                        boolean failure = isFailure(response.statusCode());
+                        return response.mutate()
+                                .body(body -> body.timeout(
+                                                untilDeadline(deadlineNanos), buffer -> untilDeadline(deadlineNanos))
+                                        .onErrorMap(TimeoutException.class, ex -> timedOut(operation, budgetMillis))
+                                        .doOnComplete(() -> call.settle(failure ? Outcome.FAILURE : Outcome.SUCCESS))
+                                        .doOnError(ex -> call.settle(Outcome.FAILURE))
+                                        .doOnCancel(() -> call.settle(failure ? Outcome.FAILURE : Outcome.IGNORED)))
+                                .build();
+                    })
+                    .doOnError(ex -> call.settle(
+                            // Held back by the upstream limiter; nothing was learned about the mock server.
+                            ex instanceof UpstreamThrottledException ? Outcome.IGNORED : Outcome.FAILURE))
+                    .doOnCancel(() -> {
+                        if (!responded.get()) {
+                            call.settle(Outcome.IGNORED);
+                        }
+                    });
+        });
+    }
+
+    private static Mono<Long> untilDeadline(long deadlineNanos) {
+        return Mono.delay(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+    }
+
+    private static UpstreamRejectedException timedOut(String operation, long budgetMillis) {
+        return new UpstreamRejectedException(
+                "Mock server did not answer " + operation + " within " + budgetMillis + " ms",
+                HttpStatus.GATEWAY_TIMEOUT,
+                null);
+    }
+
+    private long budgetMillis(ClientRequest request, boolean read) {
+        long budget = read ? properties.getReadTimeoutMillis() : properties.getWriteTimeoutMillis();
+        return request.attribute(DEADLINE_ATTRIBUTE)
+                .map(deadline -> Math.min(budget, (Long) deadline - millisClock.getAsLong()))
+                .orElse(budget);
+    }
+
+    private CircuitBreaker breaker(String operation) {
+        return breakers.computeIfAbsent(
+                operation, name -> new CircuitBreaker(name, properties.getCircuitBreaker(), System::nanoTime));
+    }
+
+    private Mono<ClientResponse> reject(UpstreamRejectedException ex) {
+        rejectedCalls.incrementAndGet();
+        log.debug("Not calling mock server: {}", ex.getMessage());
+        return Mono.error(ex);
+    }
+
+    private static boolean isFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    CircuitBreaker.State circuitState(String operation) {
+        return breaker(operation).getState();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        FAILURE,
+        IGNORED
+    }
+
+    /** The bulkhead permit and breaker probe of one call, settled exactly once whichever signal comes first. */
+    private static final class Call {
+
+        private final Semaphore bulkhead;
+        private final CircuitBreaker breaker;
+        private final boolean probe;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        Call(Semaphore bulkhead, CircuitBreaker breaker, boolean probe) {
+            this.bulkhead = bulkhead;
+            this.breaker = breaker;
+            this.probe = probe;
+        }
+
+        void settle(Outcome outcome) {
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            }
+            bulkhead.release();
+            switch (outcome) {
+                case SUCCESS -> breaker.onSuccess(probe);
+                case FAILURE -> breaker.onFailure(probe);
+                case IGNORED -> breaker.onIgnored(probe);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.config;
+
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Transport settings for calls to the mock server under {@code mockEmployeeServer.http}.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock-employee-server.http")
+public class HttpClientProperties {
+
+    private Pool pool = new Pool();
+
+    /**
+     * Protocols offered to the mock server. {@code [H2C]} alone speaks cleartext HTTP/2 by prior knowledge, so
+     * concurrent calls are multiplexed over a few connections; {@code [HTTP11, H2C]} upgrades from HTTP/1.1 instead.
+     */
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+
+    private long connectTimeoutMillis = 2000;
+
+    /** Longest gap allowed between reads of a response before it is failed. */
+    private long responseTimeoutMillis = 10_000;
+
+    private boolean keepAlive = true;
+
+    /** Ask for gzip responses; worthwhile for full roster fetches. */
+    private boolean compression = true;
+
+    /** Event loop threads dedicated to mock server calls; 0 uses Reactor Netty's default (one per core, at least 4). */
+    private int eventLoopThreads;
+
+    /**
+     * Largest response body buffered to be bound as a whole; larger ones fail with 502 instead. Full roster reads
+     * are decoded element by element and not buffered, so this bounds single employees, pages and batch results.
+     */
+    private int maxInMemorySizeBytes = 16 * 1024 * 1024;
+
+    /** Publish connection pool and client metrics to Micrometer. */
+    private boolean metricsEnabled = true;
+
+    public enum HttpProtocol {
+        HTTP11,
+        H2C
+    }
+
+    @Data
+    public static class Pool {
+
+        /** With HTTP/2 this bounds connections, each carrying as many streams as the server allows. */
+        private int maxConnections = 50;
+
+        /** Requests allowed to wait for a connection once all are in use; beyond this they fail straight away. */
+        private int pendingAcquireMaxCount = 500;
+
+        private long pendingAcquireTimeoutMillis = 5000;
+
+        /** Connections idle this long are closed; keep it below the server's keep-alive timeout. */
+        private long maxIdleTimeMillis = 30_000;
+
+        private long maxLifeTimeMillis = 300_000;
+
+        /** How often idle and expired connections are evicted in the background; 0 evicts only on acquire. */
+        private long evictInBackgroundMillis = 30_000;
+    }
+}
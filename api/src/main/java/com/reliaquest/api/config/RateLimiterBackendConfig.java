@@ -0,0 +1,59 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.InMemoryPermitStore;
+import com.reliaquest.api.web.LeasedRateLimiterBackend;
+import com.reliaquest.api.web.LocalRateLimiterBackend;
+import com.reliaquest.api.web.PermitStore;
+import com.reliaquest.api.web.RateLimiterBackend;
+import com.reliaquest.api.web.RedisPermitStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Picks the keyed rate limiter backend from {@code rateLimiter.backend}: {@code local} (default), {@code in-memory}
+ * or {@code redis}.
+ */
+@Configuration
+public class RateLimiterBackendConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rateLimiter.backend", havingValue = "local", matchIfMissing = true)
+    public RateLimiterBackend localRateLimiterBackend(RateLimiterProperties properties) {
+        return new LocalRateLimiterBackend(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rateLimiter.backend", havingValue = "in-memory")
+    public PermitStore inMemoryPermitStore() {
+        return new InMemoryPermitStore();
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${rateLimiter.backend:local}' != 'local'")
+    public RateLimiterBackend leasedRateLimiterBackend(PermitStore permitStore, RateLimiterProperties properties) {
+        return new LeasedRateLimiterBackend(permitStore, properties);
+    }
+
+    /**
+     * Redis is only connected to for the {@code redis} backend. Its auto-configuration is excluded in
+     * {@code application.yml} and imported here instead, as a plain import that the exclusion does not apply to, so
+     * other backends open no Redis connection and report no Redis health.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(StringRedisTemplate.class)
+    @ConditionalOnProperty(name = "rateLimiter.backend", havingValue = "redis")
+    @Import(RedisAutoConfiguration.class)
+    static class RedisBackendConfig {
+
+        @Bean
+        public PermitStore redisPermitStore(StringRedisTemplate redisTemplate) {
+            return new RedisPermitStore(redisTemplate);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Keyed rate limiting settings under {@code rateLimiter}. The retry and async settings in the same block are read
+ * where they are used.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limiter")
+public class RateLimiterProperties {
+
+    /** What a bucket is shared by; {@link KeyBy#GLOBAL} keeps the single process-wide limiter. */
+    private KeyBy keyBy = KeyBy.GLOBAL;
+
+    /** Where bucket state lives; anything but {@link Backend#LOCAL} shares budgets between api instances. */
+    private Backend backend = Backend.LOCAL;
+
+    /** Permit leasing for shared backends. */
+    private Lease lease = new Lease();
+
+    /** Default sustained rate for buckets of endpoints without their own entry. */
+    private double permitsPerSecond = 1;
+
+    /** Default burst; 0 means one second's worth of permits. */
+    private int burst;
+
+    /** Upper bound on live buckets; least recently used ones are dropped first. */
+    private long maxBuckets = 10_000;
+
+    /** Buckets unused for this long are dropped. Keep it above burst / rate so only full buckets are evicted. */
+    private long idleBucketExpiryMillis = 600_000;
+
+    /** Per-endpoint limits keyed by {@code IEmployeeController} method name, e.g. {@code createEmployee}. */
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    public Limit limitFor(String endpoint) {
+        Limit limit = endpoints.get(endpoint);
+        double rate = limit != null && limit.getPermitsPerSecond() > 0 ? limit.getPermitsPerSecond() : permitsPerSecond;
+        int configuredBurst = limit != null && limit.getBurst() > 0 ? limit.getBurst() : burst;
+        return new Limit(rate, configuredBurst > 0 ? configuredBurst : (int) Math.max(1, Math.ceil(rate)));
+    }
+
+    @Data
+    public static class Limit {
+        private double permitsPerSecond;
+        private int burst;
+
+        public Limit() {}
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    @Data
+    public static class Lease {
+        /** Permits taken from the shared store per round trip. */
+        private int size = 10;
+
+        /** Unused leased permits are forfeited after this long. */
+        private long ttlMillis = 1_000;
+    }
+
+    public enum Backend {
+        /** Buckets in this process only. */
+        LOCAL,
+        /** Leased permits from a process-local store; same code path as {@link #REDIS}, for tests and single nodes. */
+        IN_MEMORY,
+        /** Leased permits from buckets in Redis, shared by every instance using the same server. */
+        REDIS
+    }
+
+    public enum KeyBy {
+        GLOBAL,
+        CLIENT,
+        ENDPOINT,
+        CLIENT_AND_ENDPOINT
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Circuit breaking, bulkheads, deadlines and hedging for calls to the mock server, under
+ * {@code mockEmployeeServer.resilience}.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock-employee-server.resilience")
+public class ResilienceProperties {
+
+    private boolean enabled = true;
+
+    /** Budget for a read when the caller did not send a tighter deadline. */
+    private long readTimeoutMillis = 5000;
+
+    private long writeTimeoutMillis = 10_000;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private Hedge hedge = new Hedge();
+
+    @Data
+    public static class CircuitBreaker {
+
+        /** Percentage of failed calls in the window at which an operation's breaker opens. */
+        private int failureRateThreshold = 50;
+
+        /** Outcomes of the most recent calls the failure rate is computed over. */
+        private int slidingWindowSize = 20;
+
+        /** Calls that must be in the window before the failure rate is acted on. */
+        private int minimumCalls = 10;
+
+        /** How long an open breaker rejects calls before letting probes through. */
+        private long openDurationMillis = 30_000;
+
+        /** Probes allowed while half-open; all must succeed for the breaker to close. */
+        private int halfOpenCalls = 3;
+    }
+
+    @Data
+    public static class Bulkhead {
+
+        private int maxConcurrentReads = 64;
+
+        private int maxConcurrentWrites = 16;
+    }
+
+    @Data
+    public static class Hedge {
+
+        /** Send a second {@code getEmployeeById} call when the first has not answered within {@code delayMillis}. */
+        private boolean enabled;
+
+        private long delayMillis = 100;
+    }
+}
@@ -1,27 +1,116 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveUpstreamLimiter;
+import com.reliaquest.api.client.UpstreamResilienceFilter;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 @Configuration
+@EnableConfigurationProperties({UpstreamLimiterProperties.class, HttpClientProperties.class, ResilienceProperties.class
+})
 public class RestClientConfig {
 
+    static final String CLIENT_NAME = "mock-employee-server";
+
+    /** Collapses employee ids in metric tags so they do not create one time series per id. */
+    private static final Pattern EMPLOYEE_ID = Pattern.compile("(/api/v1/employee/)(?!page$|batch$)[^/?]+");
+
     @Value("${mockEmployeeServer.port}")
     String port;
 
     @Value("${mockEmployeeServer.host}")
     String host;
 
+    /**
+     * Connections to the mock server. With metrics enabled the pool publishes
+     * {@code reactor.netty.connection.provider.*} gauges (active, idle, pending and total connections) and the
+     * {@code pending.connections.time} acquire timer, tagged with {@value #CLIENT_NAME}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider mockServerConnectionProvider(HttpClientProperties properties) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(CLIENT_NAME)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMillis()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMillis()))
+                .metrics(properties.isMetricsEnabled());
+        if (pool.getEvictInBackgroundMillis() > 0) {
+            builder.evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMillis()));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources mockServerLoopResources(HttpClientProperties properties) {
+        int threads = properties.getEventLoopThreads() > 0
+                ? properties.getEventLoopThreads()
+                : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        return LoopResources.create(CLIENT_NAME, threads, true);
+    }
+
     @Bean
-    public WebClient webClient() {
+    public HttpClient mockServerHttpClient(
+            ConnectionProvider mockServerConnectionProvider,
+            LoopResources mockServerLoopResources,
+            HttpClientProperties properties) {
+        return HttpClient.create(mockServerConnectionProvider)
+                .runOn(mockServerLoopResources)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.getConnectTimeoutMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .responseTimeout(Duration.ofMillis(properties.getResponseTimeoutMillis()))
+                .protocol(protocols(properties.getProtocols()))
+                .compress(properties.isCompression())
+                .metrics(properties.isMetricsEnabled(), RestClientConfig::uriTag);
+    }
 
+    @Bean
+    public WebClient webClient(
+            HttpClient mockServerHttpClient,
+            UpstreamResilienceFilter resilienceFilter,
+            AdaptiveUpstreamLimiter upstreamLimiter,
+            HttpClientProperties properties) {
         return WebClient.builder()
                 .baseUrl(host + ":" + port)
+                .clientConnector(new ReactorClientHttpConnector(mockServerHttpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getMaxInMemorySizeBytes()))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                // Outermost first: calls rejected by a breaker or bulkhead never take a pacing slot.
+                .filter(resilienceFilter)
+                .filter(upstreamLimiter)
                 .build();
     }
+
+    static HttpProtocol[] protocols(List<HttpClientProperties.HttpProtocol> protocols) {
+        if (protocols == null || protocols.isEmpty()) {
+            throw new IllegalStateException("mockEmployeeServer.http.protocols must not be empty");
+        }
+        return protocols.stream()
+                .distinct()
+                .map(protocol -> switch (protocol) {
+                    case HTTP11 -> HttpProtocol.HTTP11;
+                    case H2C -> HttpProtocol.H2C;
+                })
+                .toArray(HttpProtocol[]::new);
+    }
+
+    static String uriTag(String uri) {
+        return EMPLOYEE_ID.matcher(uri).replaceFirst("$1{id}");
+    }
 }
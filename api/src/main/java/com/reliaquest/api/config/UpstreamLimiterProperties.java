@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Adaptive pacing of calls to the mock server under {@code mockEmployeeServer.upstreamLimiter}. Rate and concurrency
+ * start at their initial values, grow additively while calls succeed and shrink multiplicatively on every 429.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock-employee-server.upstream-limiter")
+public class UpstreamLimiterProperties {
+
+    private boolean enabled = true;
+
+    private double initialPermitsPerSecond = 5;
+
+    private double minPermitsPerSecond = 0.1;
+
+    private double maxPermitsPerSecond = 50;
+
+    private int initialConcurrency = 4;
+
+    private int maxConcurrency = 32;
+
+    /** Factor applied to rate and concurrency on a 429. */
+    private double decreaseFactor = 0.5;
+
+    /** Calls that would have to wait longer than this for their pacing slot fail fast with 429 instead. */
+    private long maxPacingDelayMillis = 500;
+
+    /** First cooldown after a 429 without {@code Retry-After}; doubled while probes keep being rejected. */
+    private long initialCooldownMillis = 1000;
+
+    private long maxCooldownMillis = 120_000;
+}
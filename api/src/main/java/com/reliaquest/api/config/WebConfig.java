@@ -2,11 +2,13 @@ package com.reliaquest.api.config;
 
 import com.reliaquest.api.web.RateLimitingInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(RateLimiterProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     private final RateLimitingInterceptor rateLimitingInterceptor;
@@ -18,6 +20,6 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(rateLimitingInterceptor).addPathPatterns("/api/employees");
+        registry.addInterceptor(rateLimitingInterceptor).addPathPatterns("/api/employees", "/api/employees/**");
     }
 }
@@ -1,6 +1,7 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.BatchItemResult;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.response.ApiResponse;
@@ -9,19 +10,26 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "executionMode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, EmployeeCreateRequest> {
 
     private final EmployeeService service;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
@@ -29,6 +37,23 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(apiResponse.getData());
     }
 
+    /**
+     * Selected with {@code Accept: application/x-ndjson}. Writes one employee per line straight to the response, so
+     * the JSON for the whole roster is never held in memory and clients can consume records as they arrive. Uses the
+     * application's {@link ObjectMapper}, so each line matches the employee as the JSON endpoint renders it.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        List<Employee> employees = service.getAllEmployees();
+        StreamingResponseBody body = outputStream -> {
+            for (Employee employee : employees) {
+                outputStream.write(objectMapper.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         ApiResponse<List<Employee>> apiResponse = ApiResponse.ok(service.searchEmployeesByName(searchString));
@@ -60,6 +85,22 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(apiResponse.getData());
     }
 
+    /**
+     * Creates many employees in one call; invalid items are reported per item without failing the rest.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<Employee>>> createEmployees(
+            @RequestBody List<EmployeeCreateRequest> employeeInputs) {
+        log.info("Batch create request for {} employees", employeeInputs.size());
+        return ResponseEntity.ok(service.createEmployees(employeeInputs));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult<Employee>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        log.info("Batch delete request for {} employees", ids.size());
+        return ResponseEntity.ok(service.deleteEmployeesById(ids));
+    }
+
     @Override
     public ResponseEntity<String> deleteEmployeeById(String id) {
         ApiResponse<String> apiResponse = ApiResponse.ok(service.deleteEmployeeById(id));
@@ -0,0 +1,97 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.BatchItemResult;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeController}, active when {@code executionMode=reactive}.
+ *
+ * <p>Mirrors the routes and payloads of {@link IEmployeeController} but returns {@link Mono}s, so the servlet thread is
+ * released while the upstream call is in flight and the response is written on completion.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "executionMode", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private final EmployeeService service;
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return service.getAllEmployeesAsync().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Selected with {@code Accept: application/x-ndjson}; each employee is serialised and flushed as its own line.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        return service.getAllEmployeesAsync().flatMapIterable(employees -> employees);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return service.searchEmployeesByNameAsync(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return service.getEmployeeByIdAsync(id).map(ResponseEntity::ok).defaultIfEmpty(ResponseEntity.ok(null));
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return service.getHighestSalaryAsync().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return service.getTop10HighestEarningEmployeeNamesAsync().map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody @Valid EmployeeCreateRequest employeeInput) {
+        log.info("Request: {}", employeeInput);
+        return service.createEmployeeAsync(employeeInput)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok(null));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResult<Employee>>>> createEmployees(
+            @RequestBody List<EmployeeCreateRequest> employeeInputs) {
+        log.info("Batch create request for {} employees", employeeInputs.size());
+        return service.createEmployeesAsync(employeeInputs).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResult<Employee>>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        log.info("Batch delete request for {} employees", ids.size());
+        return service.deleteEmployeesByIdAsync(ids).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return service.deleteEmployeeByIdAsync(id).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch create or delete. {@code index} is the item's position in the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult<T> {
+    private int index;
+    private Status status;
+    private T data;
+    private String error;
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID,
+        /** The mock server could not be reached for this item's chunk; the item was not applied and may be retried. */
+        FAILED
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.dto;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Creates and deletes on the mock server after a roster version, oldest first. {@code version} is the roster version
+ * they bring a copy up to.
+ */
+@Data
+public class EmployeeChangesDTO {
+    private String epoch;
+    private long version;
+    private List<Change> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private long seq;
+        private Type type;
+        private String id;
+        private Employee employee;
+
+        public enum Type {
+            CREATED,
+            DELETED
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.dto;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class EmployeePageDTO {
+    private List<Employee> items;
+    private String nextCursor;
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.dto;
+
+/**
+ * A roster version on the mock server. Versions restart on every server boot, so each is qualified by the
+ * {@code epoch} of the run it was read from.
+ */
+public record RosterPosition(String epoch, long version) {}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised by the client itself rather than returned by the mock server: the call was not sent, or was given up on,
+ * because the mock server is known to be unable to serve it in time. {@code retryAfter} is set when it is known when
+ * calls will be attempted again.
+ */
+@Getter
+public class UpstreamRejectedException extends EmployeeApiException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRejectedException(String message, HttpStatus status, Duration retryAfter) {
+        super(message, status);
+        this.retryAfter = retryAfter;
+    }
+}
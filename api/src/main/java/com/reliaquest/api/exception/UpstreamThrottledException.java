@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised without calling the mock server when it is known to be rate limiting us, so callers see a 429 straight away.
+ */
+public class UpstreamThrottledException extends UpstreamRejectedException {
+
+    public UpstreamThrottledException(String message, Duration retryAfter) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, retryAfter);
+    }
+}
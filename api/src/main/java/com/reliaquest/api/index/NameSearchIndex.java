@@ -0,0 +1,257 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable trigram inverted index over employee names for case-insensitive substring search.
+ *
+ * <p>Names and queries are normalized once (NFKD, combining marks stripped, lower-cased), so {@code "jose"} matches
+ * {@code "José"}. A query of three or more characters is answered by intersecting the posting lists of its trigrams and
+ * verifying the few remaining candidates; shorter queries fall back to a scan over the pre-normalized names. Results
+ * are returned in roster order.
+ *
+ * <p>{@link #withAdded} and {@link #withRemoved} share nearly everything with the index they derive from: documents
+ * live in a {@link PersistentVector}, the postings are split into {@value #SHARDS} shards copied only when one of
+ * their trigrams changes, and each posting list is an append-only buffer that later versions extend in place. Removed
+ * documents leave a tombstone, and stay in the posting lists, until tombstones outnumber live documents and the index
+ * is rebuilt.
+ */
+public final class NameSearchIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int GRAM = 3;
+    private static final int SHARD_BITS = 8;
+    private static final int SHARDS = 1 << SHARD_BITS;
+
+    private final PersistentVector<Document> documents;
+    private final Map<Long, Postings>[] shards;
+    private final int live;
+
+    private NameSearchIndex(PersistentVector<Document> documents, Map<Long, Postings>[] shards, int live) {
+        this.documents = documents;
+        this.shards = shards;
+        this.live = live;
+    }
+
+    public static NameSearchIndex build(List<Employee> roster) {
+        List<Document> documents = new ArrayList<>(roster.size());
+        Map<Long, Postings>[] shards = newShards();
+
+        for (int doc = 0; doc < roster.size(); doc++) {
+            Employee employee = roster.get(doc);
+            String normalized = employee.getName() == null ? null : normalize(employee.getName());
+            documents.add(new Document(employee, normalized));
+            if (normalized == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                long key = trigram(normalized, i);
+                Map<Long, Postings> shard = shards[shard(key)];
+                Postings existing = shard.get(key);
+                if (existing == null) {
+                    shard.put(key, Postings.EMPTY.append(doc));
+                } else if (existing.last() != doc) {
+                    shard.put(key, existing.append(doc));
+                }
+            }
+        }
+        return new NameSearchIndex(PersistentVector.of(documents), shards, roster.size());
+    }
+
+    public static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public List<Employee> search(String query) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            return List.of();
+        }
+        if (needle.length() < GRAM) {
+            return scan(needle);
+        }
+
+        int[] candidates = candidates(needle);
+        List<Employee> matches = new ArrayList<>(candidates.length);
+        for (int doc : candidates) {
+            Document document = documents.get(doc);
+            if (document != null && document.normalizedName().contains(needle)) {
+                matches.add(document.employee());
+            }
+        }
+        return matches;
+    }
+
+    public NameSearchIndex withAdded(Employee employee) {
+        int doc = documents.size();
+        String normalized = employee.getName() == null ? null : normalize(employee.getName());
+        PersistentVector<Document> newDocuments = documents.append(new Document(employee, normalized));
+        if (normalized == null) {
+            return new NameSearchIndex(newDocuments, shards, live + 1);
+        }
+
+        Map<Long, Postings>[] newShards = shards.clone();
+        boolean[] copied = new boolean[SHARDS];
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            long key = trigram(normalized, i);
+            int shard = shard(key);
+            if (!copied[shard]) {
+                newShards[shard] = new HashMap<>(shards[shard]);
+                copied[shard] = true;
+            }
+            Postings existing = newShards[shard].getOrDefault(key, Postings.EMPTY);
+            // Docs are appended in increasing order, so only the last slot needs checking for repeated trigrams.
+            if (existing.last() != doc) {
+                newShards[shard].put(key, existing.append(doc));
+            }
+        }
+        return new NameSearchIndex(newDocuments, newShards, live + 1);
+    }
+
+    public NameSearchIndex withRemoved(Employee employee) {
+        int doc = find(employee);
+        if (doc < 0) {
+            return this;
+        }
+        if (documents.size() - live + 1 > live - 1) {
+            List<Employee> remaining = new ArrayList<>(live - 1);
+            for (int i = 0; i < documents.size(); i++) {
+                Document document = documents.get(i);
+                if (document != null && i != doc) {
+                    remaining.add(document.employee());
+                }
+            }
+            return build(remaining);
+        }
+        // Stale postings are harmless: search skips candidates whose document is gone.
+        return new NameSearchIndex(documents.with(doc, null), shards, live - 1);
+    }
+
+    private int find(Employee employee) {
+        if (employee.getName() != null) {
+            String normalized = normalize(employee.getName());
+            if (normalized.length() >= GRAM) {
+                for (int doc : candidates(normalized)) {
+                    Document document = documents.get(doc);
+                    if (document != null && document.employee() == employee) {
+                        return doc;
+                    }
+                }
+                return -1;
+            }
+        }
+        for (int doc = 0; doc < documents.size(); doc++) {
+            Document document = documents.get(doc);
+            if (document != null && document.employee() == employee) {
+                return doc;
+            }
+        }
+        return -1;
+    }
+
+    private int[] candidates(String needle) {
+        List<Postings> lists = new ArrayList<>(needle.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            long key = trigram(needle, i);
+            Postings list = shards[shard(key)].get(key);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        int[] result = Arrays.copyOf(lists.get(0).docs(), lists.get(0).size());
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private List<Employee> scan(String needle) {
+        List<Employee> matches = new ArrayList<>();
+        for (int doc = 0; doc < documents.size(); doc++) {
+            Document document = documents.get(doc);
+            if (document != null
+                    && document.normalizedName() != null
+                    && document.normalizedName().contains(needle)) {
+                matches.add(document.employee());
+            }
+        }
+        return matches;
+    }
+
+    private static int[] intersect(int[] left, Postings right) {
+        int[] rightDocs = right.docs();
+        int[] result = new int[Math.min(left.length, right.size())];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.size()) {
+            if (left[i] < rightDocs[j]) {
+                i++;
+            } else if (left[i] > rightDocs[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static int shard(long trigram) {
+        return (int) ((trigram * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - SHARD_BITS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Postings>[] newShards() {
+        Map<Long, Postings>[] shards = new Map[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new HashMap<>();
+        }
+        return shards;
+    }
+
+    private record Document(Employee employee, String normalizedName) {}
+
+    /**
+     * The first {@code size} slots of a buffer of ascending doc ids. Buffers are shared between index versions: a
+     * version may append in place only while no other version has claimed the next slot, otherwise it copies. Slots
+     * below a version's size are never written again, so every version keeps reading what it was built with.
+     */
+    private record Postings(int[] docs, AtomicInteger claimed, int size) {
+
+        static final Postings EMPTY = new Postings(new int[0], new AtomicInteger(), 0);
+
+        int last() {
+            return size == 0 ? -1 : docs[size - 1];
+        }
+
+        Postings append(int doc) {
+            if (size < docs.length && claimed.compareAndSet(size, size + 1)) {
+                docs[size] = doc;
+                return new Postings(docs, claimed, size + 1);
+            }
+            int[] grown = Arrays.copyOf(docs, Math.max(4, size * 2));
+            grown[size] = doc;
+            return new Postings(grown, new AtomicInteger(size + 1), size + 1);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.index;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable indexed sequence stored as a 32-way trie of small arrays. {@link #with} and {@link #append} copy only the
+ * arrays on the path to the changed slot, at most {@code log32(n)} of them, and share everything else with this
+ * vector, so a million-element vector is updated by copying a few hundred references instead of a million.
+ */
+public final class PersistentVector<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[WIDTH], 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentVector(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /** Builds the trie bottom-up in one pass, rather than appending (and copying a path) per element. */
+    public static <T> PersistentVector<T> of(List<? extends T> values) {
+        if (values.isEmpty()) {
+            return empty();
+        }
+        Object[] level = new Object[(values.size() + MASK) >>> BITS];
+        for (int i = 0; i < values.size(); i++) {
+            if ((i & MASK) == 0) {
+                level[i >>> BITS] = new Object[WIDTH];
+            }
+            ((Object[]) level[i >>> BITS])[i & MASK] = values.get(i);
+        }
+        int shift = 0;
+        while (level.length > 1) {
+            Object[] parents = new Object[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < level.length; i++) {
+                if ((i & MASK) == 0) {
+                    parents[i >>> BITS] = new Object[WIDTH];
+                }
+                ((Object[]) parents[i >>> BITS])[i & MASK] = level[i];
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentVector<>((Object[]) level[0], shift, values.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (T) node[index & MASK];
+    }
+
+    public PersistentVector<T> with(int index, T value) {
+        Objects.checkIndex(index, size);
+        return new PersistentVector<>(assoc(root, shift, index, value), shift, size);
+    }
+
+    public PersistentVector<T> append(T value) {
+        if (size == 1 << (shift + BITS)) {
+            Object[] grown = new Object[WIDTH];
+            grown[0] = root;
+            return new PersistentVector<>(assoc(grown, shift + BITS, size, value), shift + BITS, size + 1);
+        }
+        return new PersistentVector<>(assoc(root, shift, size, value), shift, size + 1);
+    }
+
+    private static Object[] assoc(Object[] node, int shift, int index, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if (shift == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int slot = (index >>> shift) & MASK;
+            copy[slot] = assoc((Object[]) copy[slot], shift - BITS, index, value);
+        }
+        return copy;
+    }
+}
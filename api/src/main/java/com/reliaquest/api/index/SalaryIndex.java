@@ -0,0 +1,121 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * Immutable salary ordering of a roster: a {@link PersistentSortedMap} of employees sorted by salary descending. The
+ * highest salary and the top {@value #TOP_K} names are precomputed, so reads neither sort nor allocate. Employees
+ * without a salary are not indexed.
+ *
+ * <p>{@link #withAdded} and {@link #withRemoved} derive a new index by copying only the O(log n) nodes on the path to
+ * the change; the rest of the tree is shared with this one, so a single write stays cheap on large rosters. Employees
+ * with equal salaries keep roster order.
+ */
+public final class SalaryIndex {
+
+    public static final int TOP_K = 10;
+
+    /** Higher salaries first, then lower sequence numbers, i.e. earlier in the roster. */
+    private static final Comparator<Key> ORDER =
+            Comparator.comparingInt(Key::salary).reversed().thenComparingLong(Key::seq);
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(PersistentSortedMap.empty(ORDER), 0);
+
+    private final PersistentSortedMap<Key, Employee> employees;
+    /** Sequence number of the next added employee, which sorts after every indexed one with the same salary. */
+    private final long nextSeq;
+
+    private final OptionalInt highest;
+    private final List<String> topNames;
+
+    private SalaryIndex(PersistentSortedMap<Key, Employee> employees, long nextSeq) {
+        this.employees = employees;
+        this.nextSeq = nextSeq;
+        this.highest = employees.isEmpty()
+                ? OptionalInt.empty()
+                : OptionalInt.of(employees.entryAt(0).getKey().salary());
+        List<String> names = new ArrayList<>(TOP_K);
+        for (Iterator<Map.Entry<Key, Employee>> it = employees.iterator(); it.hasNext() && names.size() < TOP_K; ) {
+            names.add(it.next().getValue().getName());
+        }
+        this.topNames = Collections.unmodifiableList(names);
+    }
+
+    public static SalaryIndex build(List<Employee> roster) {
+        // Pack (salary, reversed roster position) into one long so a primitive sort yields salary-descending order
+        // with ties in roster order once read back to front.
+        long[] packed = new long[roster.size()];
+        int count = 0;
+        for (int i = 0; i < roster.size(); i++) {
+            Integer salary = roster.get(i).getSalary();
+            if (salary != null) {
+                packed[count++] = ((long) salary << 32) | (Integer.MAX_VALUE - i);
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(packed, 0, count);
+
+        List<Key> keys = new ArrayList<>(count);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            int position = Integer.MAX_VALUE - (int) packed[i];
+            keys.add(new Key((int) (packed[i] >> 32), position));
+            employees.add(roster.get(position));
+        }
+        return new SalaryIndex(PersistentSortedMap.ofSorted(ORDER, keys, employees), roster.size());
+    }
+
+    public OptionalInt highest() {
+        return highest;
+    }
+
+    /**
+     * Names of the (at most) {@value #TOP_K} best paid employees, highest first.
+     */
+    public List<String> topNames() {
+        return topNames;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public SalaryIndex withAdded(Employee employee) {
+        if (employee.getSalary() == null) {
+            return this;
+        }
+        return new SalaryIndex(employees.with(new Key(employee.getSalary(), nextSeq), employee), nextSeq + 1);
+    }
+
+    public SalaryIndex withRemoved(Employee employee) {
+        if (employee.getSalary() == null) {
+            return this;
+        }
+        int salary = employee.getSalary();
+        // Only the run of equal salaries is scanned for the employee.
+        Iterator<Map.Entry<Key, Employee>> it = employees.iteratorFrom(new Key(salary, Long.MIN_VALUE));
+        while (it.hasNext()) {
+            Map.Entry<Key, Employee> entry = it.next();
+            if (entry.getKey().salary() != salary) {
+                break;
+            }
+            if (Objects.equals(entry.getValue().getId(), employee.getId())) {
+                return new SalaryIndex(employees.without(entry.getKey()), nextSeq);
+            }
+        }
+        return this;
+    }
+
+    private record Key(int salary, long seq) {}
+}
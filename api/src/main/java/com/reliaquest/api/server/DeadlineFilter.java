@@ -0,0 +1,62 @@
+package com.reliaquest.api.server;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Picks up the caller's time budget from {@value #DEADLINE_HEADER} (milliseconds left) and keeps the resulting
+ * absolute deadline in the MDC, next to the trace id, so calls made on behalf of the request can be bounded by it and
+ * pass the remainder on.
+ */
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String DEADLINE_HEADER = "X-Deadline-Millis";
+    /** Epoch milliseconds by which the request must be answered. */
+    public static final String MDC_DEADLINE_KEY = "deadline";
+
+    private static final String DEADLINE_ATTRIBUTE = DeadlineFilter.class.getName() + ".deadline";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long deadline = (Long) request.getAttribute(DEADLINE_ATTRIBUTE);
+        if (deadline == null) {
+            deadline = parseDeadline(request.getHeader(DEADLINE_HEADER));
+            if (deadline == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        }
+
+        MDC.put(MDC_DEADLINE_KEY, String.valueOf(deadline));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_DEADLINE_KEY);
+        }
+    }
+
+    private static Long parseDeadline(String budget) {
+        if (budget == null || budget.isBlank()) {
+            return null;
+        }
+        try {
+            return System.currentTimeMillis() + Math.max(0, Long.parseLong(budget.trim()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
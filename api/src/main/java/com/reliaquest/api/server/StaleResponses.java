@@ -0,0 +1,34 @@
+package com.reliaquest.api.server;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.function.LongConsumer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Flags responses served from data older than a fresh fetch would give, with an {@code Age} header in seconds.
+ */
+public final class StaleResponses {
+
+    private StaleResponses() {}
+
+    /**
+     * Captures the response of the request served on this thread, so it can be flagged later from any thread (e.g.
+     * when a reactive read falls back on stale data). A no-op outside of a request.
+     */
+    public static LongConsumer ageMarker() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        HttpServletResponse response =
+                attributes instanceof ServletRequestAttributes servlet ? servlet.getResponse() : null;
+        if (response == null) {
+            return ageMillis -> {};
+        }
+        return ageMillis -> {
+            if (!response.isCommitted()) {
+                response.setHeader(HttpHeaders.AGE, String.valueOf(Math.max(0, ageMillis) / 1000));
+            }
+        };
+    }
+}
@@ -15,18 +15,30 @@ public class TraceIdFilter extends OncePerRequestFilter {
 
     public static final String TRACE_ID_HEADER = "X-Trace-Id";
     public static final String MDC_TRACE_ID_KEY = "traceId";
+    private static final String TRACE_ID_ATTRIBUTE = TraceIdFilter.class.getName() + ".traceId";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Async dispatches (e.g. completing a Mono returned by a controller) run on another thread and need the MDC
+        // too.
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String traceId = request.getHeader(TRACE_ID_HEADER);
+        String traceId = (String) request.getAttribute(TRACE_ID_ATTRIBUTE);
 
-        if (traceId == null || traceId.isBlank()) {
-            traceId = UUID.randomUUID().toString();
+        if (traceId == null) {
+            traceId = request.getHeader(TRACE_ID_HEADER);
+            if (traceId == null || traceId.isBlank()) {
+                traceId = UUID.randomUUID().toString();
+            }
+            request.setAttribute(TRACE_ID_ATTRIBUTE, traceId);
+            response.setHeader(TRACE_ID_HEADER, traceId);
         }
 
         MDC.put(MDC_TRACE_ID_KEY, traceId);
-        response.setHeader(TRACE_ID_HEADER, traceId);
 
         try {
             filterChain.doFilter(request, response);
@@ -1,91 +1,328 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.RosterSnapshot;
 import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.BatchItemResult;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDataDTO;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.server.StaleResponses;
 import io.netty.util.internal.StringUtil;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.LongConsumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 @Slf4j
 public class EmployeeService {
 
+    /** Largest batch accepted from callers; it is sent upstream in chunks the mock server accepts. */
+    public static final int MAX_BATCH_SIZE = 10_000;
+
     private final ApiClient apiClient;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeByIdCache byIdCache;
+
+    public EmployeeService(ApiClient apiClient, EmployeeSnapshotCache snapshotCache) {
+        this(apiClient, snapshotCache, EmployeeByIdCache.disabled());
+    }
 
-    public EmployeeService(ApiClient apiClient) {
+    @Autowired
+    public EmployeeService(ApiClient apiClient, EmployeeSnapshotCache snapshotCache, EmployeeByIdCache byIdCache) {
         this.apiClient = apiClient;
+        this.snapshotCache = snapshotCache;
+        this.byIdCache = byIdCache;
     }
 
     public List<Employee> getAllEmployees() {
-        log.info("Fetching all employees from API client");
+        log.info("Fetching all employees from roster snapshot");
 
-        EmployeeDataDTO<List<Employee>> employees = apiClient.getAllEmployees();
+        List<Employee> employees = nonEmptySnapshot().employees();
+        log.info("Fetched {} employees", employees.size());
 
-        if (employees == null
-                || employees.getData() == null
-                || employees.getData().isEmpty()) {
-            log.warn("No employees found");
-            throw new EmployeeApiException("No employees found", HttpStatus.NO_CONTENT);
-        } else {
-            log.info("Fetched {} employees", employees.getData().size());
-        }
-
-        return employees.getData();
+        return employees;
     }
 
+    /** Served from {@link EmployeeByIdCache} when the id, or its absence, was seen recently. */
     public Employee getEmployeeById(String id) {
-        return (Employee) apiClient.getEmployeeById(id).getData();
+        Optional<Employee> cached = cachedEmployee(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        try {
+            Employee employee = apiClient.getEmployeeById(id).getData();
+            byIdCache.put(employee);
+            return employee;
+        } catch (EmployeeApiException ex) {
+            rememberNotFound(id, ex);
+            return staleEmployee(id, ex, StaleResponses.ageMarker()).orElseThrow(() -> ex);
+        }
     }
 
     public List<Employee> searchEmployeesByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        return this.getAllEmployees().stream()
-                .filter(emp ->
-                        emp.getName() != null && emp.getName().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+        return nonEmptySnapshot().nameIndex().search(name);
     }
 
     public int getHighestSalary() {
-        return this.getAllEmployees().stream()
-                .mapToInt(Employee::getSalary)
-                .max()
-                .getAsInt();
+        return nonEmptySnapshot()
+                .salaryIndex()
+                .highest()
+                .orElseThrow(() -> new EmployeeApiException("No employee salaries found", HttpStatus.NO_CONTENT));
     }
 
     public List<String> getTop10HighestEarningEmployeeNames() {
-        return this.getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+        return nonEmptySnapshot().salaryIndex().topNames();
     }
 
     public Employee createEmployee(EmployeeCreateRequest request) {
-        return apiClient.createEmployee(request).getData();
+        Employee created = apiClient.createEmployee(request).getData();
+        if (created != null) {
+            byIdCache.put(created);
+            snapshotCache.onEmployeeCreated(created);
+        } else {
+            snapshotCache.invalidate();
+        }
+        return created;
     }
 
+    /**
+     * One upstream call: the mock server deletes by id and returns the removed employee, so no lookup is needed first.
+     */
     public String deleteEmployeeById(String id) {
-        Employee employeeById = this.getEmployeeById(id);
-        if (employeeById != null) {
-            String name = employeeById.getName();
-            if (!StringUtil.isNullOrEmpty(name)) {
-                log.info("Deleting Employee with name: {}", name);
-                boolean status = apiClient.deleteEmployeeByName(name);
-                if (status) {
-                    return String.format("Employee '%s' deleted successfully", name);
-                }
+        Employee deleted = apiClient.deleteEmployeeById(id);
+        if (deleted == null) {
+            return "Employee deletion failed";
+        }
+        String message = deletedMessage(id, deleted);
+        byIdCache.invalidate(id);
+        snapshotCache.onEmployeeDeleted(id);
+        return message;
+    }
+
+    public List<BatchItemResult<Employee>> createEmployees(List<EmployeeCreateRequest> requests) {
+        requireBatchSize(requests);
+        List<BatchItemResult<Employee>> results = apiClient.createEmployees(requests);
+        onEmployeesCreated(dataOf(results, BatchItemResult.Status.CREATED));
+        return results;
+    }
+
+    public List<BatchItemResult<Employee>> deleteEmployeesById(List<String> ids) {
+        requireBatchSize(ids);
+        List<BatchItemResult<Employee>> results = apiClient.deleteEmployeesById(ids);
+        onEmployeesDeleted(idsOf(dataOf(results, BatchItemResult.Status.DELETED)));
+        return results;
+    }
+
+    public Mono<List<Employee>> getAllEmployeesAsync() {
+        return nonEmptySnapshotAsync().map(RosterSnapshot::employees);
+    }
+
+    public Mono<Employee> getEmployeeByIdAsync(String id) {
+        LongConsumer ageMarker = StaleResponses.ageMarker();
+        return Mono.defer(() -> {
+            Optional<Employee> cached = cachedEmployee(id);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
             }
+            return apiClient
+                    .getEmployeeByIdAsync(id)
+                    .mapNotNull(EmployeeDataDTO::getData)
+                    .doOnNext(byIdCache::put)
+                    .onErrorResume(EmployeeApiException.class, ex -> {
+                        rememberNotFound(id, ex);
+                        return Mono.justOrEmpty(staleEmployee(id, ex, ageMarker))
+                                .switchIfEmpty(Mono.error(ex));
+                    });
+        });
+    }
+
+    public Mono<List<Employee>> searchEmployeesByNameAsync(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+        return nonEmptySnapshotAsync().map(snapshot -> snapshot.nameIndex().search(name));
+    }
+
+    public Mono<Integer> getHighestSalaryAsync() {
+        return nonEmptySnapshotAsync().map(snapshot -> snapshot.salaryIndex()
+                .highest()
+                .orElseThrow(() -> new EmployeeApiException("No employee salaries found", HttpStatus.NO_CONTENT)));
+    }
+
+    public Mono<List<String>> getTop10HighestEarningEmployeeNamesAsync() {
+        return nonEmptySnapshotAsync().map(snapshot -> snapshot.salaryIndex().topNames());
+    }
+
+    public Mono<Employee> createEmployeeAsync(EmployeeCreateRequest request) {
+        return apiClient
+                .createEmployeeAsync(request)
+                .mapNotNull(EmployeeDataDTO::getData)
+                .doOnNext(created -> {
+                    byIdCache.put(created);
+                    snapshotCache.onEmployeeCreated(created);
+                })
+                .switchIfEmpty(Mono.fromRunnable(snapshotCache::invalidate));
+    }
+
+    public Mono<String> deleteEmployeeByIdAsync(String id) {
+        return apiClient
+                .deleteEmployeeByIdAsync(id)
+                .map(deleted -> {
+                    String message = deletedMessage(id, deleted);
+                    byIdCache.invalidate(id);
+                    snapshotCache.onEmployeeDeleted(id);
+                    return message;
+                })
+                .defaultIfEmpty("Employee deletion failed");
+    }
+
+    public Mono<List<BatchItemResult<Employee>>> createEmployeesAsync(List<EmployeeCreateRequest> requests) {
+        return Mono.defer(() -> {
+                    requireBatchSize(requests);
+                    return apiClient.createEmployeesAsync(requests);
+                })
+                .doOnNext(results -> onEmployeesCreated(dataOf(results, BatchItemResult.Status.CREATED)));
+    }
+
+    public Mono<List<BatchItemResult<Employee>>> deleteEmployeesByIdAsync(List<String> ids) {
+        return Mono.defer(() -> {
+                    requireBatchSize(ids);
+                    return apiClient.deleteEmployeesByIdAsync(ids);
+                })
+                .doOnNext(results -> onEmployeesDeleted(idsOf(dataOf(results, BatchItemResult.Status.DELETED))));
+    }
+
+    private Optional<Employee> cachedEmployee(String id) {
+        Optional<String> notFound = byIdCache.notFoundMessage(id);
+        if (notFound.isPresent()) {
+            throw new EmployeeApiException(notFound.get(), HttpStatus.NOT_FOUND);
+        }
+        return byIdCache.get(id);
+    }
+
+    private void rememberNotFound(String id, EmployeeApiException ex) {
+        if (ex.getStatus() == HttpStatus.NOT_FOUND) {
+            byIdCache.putNotFound(id, ex.getMessage());
+        }
+    }
+
+    private void onEmployeesCreated(List<Employee> created) {
+        created.forEach(byIdCache::put);
+        snapshotCache.onEmployeesCreated(created);
+    }
+
+    private void onEmployeesDeleted(List<String> deletedIds) {
+        byIdCache.invalidateAll(deletedIds);
+        snapshotCache.onEmployeesDeleted(deletedIds);
+    }
+
+    /** Falls back to the cached roster's id index when the mock server's reply does not carry the name. */
+    private String deletedMessage(String id, Employee deleted) {
+        String name = deleted.getName();
+        if (StringUtil.isNullOrEmpty(name)) {
+            name = snapshotCache.cachedEmployee(id).map(Employee::getName).orElse(id);
+        }
+        return String.format("Employee '%s' deleted successfully", name);
+    }
+
+    private static void requireBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new EmployeeApiException(
+                    "Batch must contain between 1 and " + MAX_BATCH_SIZE + " items", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static List<Employee> dataOf(List<BatchItemResult<Employee>> results, BatchItemResult.Status status) {
+        return results.stream()
+                .filter(result -> result.getStatus() == status && result.getData() != null)
+                .map(BatchItemResult::getData)
+                .toList();
+    }
+
+    private static List<String> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    /**
+     * Stale-if-error: while the mock server is throttling or unreachable, reads are served from the last-known-good
+     * roster (see {@link EmployeeSnapshotCache#staleFallback()}) and the response is given its age. Other errors, such
+     * as an unknown id, are passed on.
+     */
+    private Optional<RosterSnapshot> staleRoster(EmployeeApiException ex, LongConsumer ageMarker) {
+        if (!isUpstreamOutage(ex)) {
+            return Optional.empty();
+        }
+        return snapshotCache.staleFallback().map(snapshot -> {
+            long ageMillis = snapshot.ageMillis(System.currentTimeMillis());
+            log.warn(
+                    "Mock server unavailable ({}), serving roster snapshot version {} from {} ms ago",
+                    ex.getStatus(),
+                    snapshot.version(),
+                    ageMillis);
+            ageMarker.accept(ageMillis);
+            return snapshot;
+        });
+    }
+
+    private Optional<Employee> staleEmployee(String id, EmployeeApiException ex, LongConsumer ageMarker) {
+        if (!isUpstreamOutage(ex)) {
+            return Optional.empty();
+        }
+        return snapshotCache.staleFallback().flatMap(snapshot -> snapshot.findById(id)
+                .map(employee -> {
+                    long ageMillis = snapshot.ageMillis(System.currentTimeMillis());
+                    log.warn(
+                            "Mock server unavailable ({}), serving employee {} from roster snapshot {} ms old",
+                            ex.getStatus(),
+                            id,
+                            ageMillis);
+                    ageMarker.accept(ageMillis);
+                    return employee;
+                }));
+    }
+
+    private static boolean isUpstreamOutage(EmployeeApiException ex) {
+        return ex.getStatus().is5xxServerError() || ex.getStatus() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private Mono<RosterSnapshot> nonEmptySnapshotAsync() {
+        LongConsumer ageMarker = StaleResponses.ageMarker();
+        return snapshotCache
+                .snapshotAsync()
+                .onErrorResume(EmployeeApiException.class, ex -> Mono.justOrEmpty(staleRoster(ex, ageMarker))
+                        .switchIfEmpty(Mono.error(ex)))
+                .map(snapshot -> {
+                    if (snapshot.employees().isEmpty()) {
+                        log.warn("No employees found");
+                        throw new EmployeeApiException("No employees found", HttpStatus.NO_CONTENT);
+                    }
+                    return snapshot;
+                });
+    }
+
+    private RosterSnapshot nonEmptySnapshot() {
+        RosterSnapshot snapshot;
+        try {
+            snapshot = snapshotCache.snapshot();
+        } catch (EmployeeApiException ex) {
+            snapshot = staleRoster(ex, StaleResponses.ageMarker()).orElseThrow(() -> ex);
+        }
+        if (snapshot.employees().isEmpty()) {
+            log.warn("No employees found");
+            throw new EmployeeApiException("No employees found", HttpStatus.NO_CONTENT);
         }
-        return "Employee deletion failed";
+        return snapshot;
     }
 }
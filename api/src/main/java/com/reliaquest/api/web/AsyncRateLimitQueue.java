@@ -0,0 +1,188 @@
+package com.reliaquest.api.web;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds rate-limited requests without holding their threads, active when {@code rateLimiter.mode=async}.
+ *
+ * <p>A throttled request is put into servlet async mode and parked here; its container thread goes back to the pool.
+ * A single scheduler thread hands out permits and re-dispatches each granted request, which then runs normally
+ * ({@link RateLimitingInterceptor} lets async dispatches through). Each request waits on its own bucket key: requests
+ * sharing a key are granted in arrival order, while a key without permits does not hold up other keys queued behind
+ * it. Requests beyond {@code maxQueueDepth} are refused straight away, and requests still queued after
+ * {@code maxWaitMillis} are answered with 429.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rateLimiter.mode", havingValue = "async")
+public class AsyncRateLimitQueue {
+
+    static final String QUEUE_FULL_MESSAGE = "Too many requests - rate limit queue is full";
+    static final String TIMED_OUT_MESSAGE = "Too many requests - no permit available within the wait limit";
+
+    private final BlockingQueue<Waiter> waiters;
+    private final Map<String, Integer> queuedByKey = new ConcurrentHashMap<>();
+    private final long maxWaitMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public AsyncRateLimitQueue(
+            @Value("${rateLimiter.async.maxQueueDepth:100}") int maxQueueDepth,
+            @Value("${rateLimiter.async.maxWaitMillis:2000}") long maxWaitMillis,
+            @Value("${rateLimiter.async.pollIntervalMillis:10}") long pollIntervalMillis) {
+        this.waiters = new ArrayBlockingQueue<>(maxQueueDepth);
+        this.maxWaitMillis = maxWaitMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-queue");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Lets the request through immediately if nothing with the same key is queued ahead of it and a permit is free.
+     */
+    public boolean tryAcquireNow(String key, BooleanSupplier permit) {
+        return !queuedByKey.containsKey(key) && permit.getAsBoolean();
+    }
+
+    /**
+     * Parks the request until {@code permit} grants it. When this returns {@code true} the caller must not touch the
+     * request or response again; when it returns {@code false} the queue was full and nothing was changed.
+     */
+    public boolean enqueue(
+            HttpServletRequest request, HttpServletResponse response, String key, BooleanSupplier permit) {
+        if (waiters.remainingCapacity() == 0) {
+            return false;
+        }
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(maxWaitMillis);
+        Waiter waiter = new Waiter(asyncContext, key, permit);
+        asyncContext.addListener(waiter);
+        // Counted before it is visible to drain(), which may grant and uncount it as soon as it is offered.
+        queuedByKey.merge(key, 1, Integer::sum);
+        if (!waiters.offer(waiter)) {
+            uncount(key);
+            // Lost the last slot to a concurrent request; answer now rather than leaving the request hanging.
+            waiter.reject(QUEUE_FULL_MESSAGE);
+            return true;
+        }
+        log.debug("Queued rate-limited request for {}, {} waiting", key, waiters.size());
+        return true;
+    }
+
+    int depth() {
+        return waiters.size();
+    }
+
+    /**
+     * Grants free permits to queued requests, oldest first within each key. Once a key is out of permits the rest of
+     * its requests are skipped for this pass, so later requests for that key never overtake earlier ones.
+     */
+    synchronized void drain() {
+        Set<String> exhausted = new HashSet<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.finished.get()) {
+                dequeue(waiter);
+            } else if (!exhausted.contains(waiter.key)) {
+                if (waiter.permit.getAsBoolean()) {
+                    dequeue(waiter);
+                    waiter.grant();
+                } else {
+                    exhausted.add(waiter.key);
+                }
+            }
+        }
+    }
+
+    private void dequeue(Waiter waiter) {
+        if (waiters.remove(waiter)) {
+            uncount(waiter.key);
+        }
+    }
+
+    private void uncount(String key) {
+        queuedByKey.computeIfPresent(key, (ignored, count) -> count == 1 ? null : count - 1);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private final class Waiter implements AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final String key;
+        private final BooleanSupplier permit;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Waiter(AsyncContext asyncContext, String key, BooleanSupplier permit) {
+            this.asyncContext = asyncContext;
+            this.key = key;
+            this.permit = permit;
+        }
+
+        void grant() {
+            if (finished.compareAndSet(false, true)) {
+                asyncContext.dispatch();
+            }
+        }
+
+        void reject(String message) {
+            if (finished.compareAndSet(false, true)) {
+                try {
+                    HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+                    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                    response.getWriter().write(message);
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Unable to write rate limit rejection", ex);
+                } finally {
+                    asyncContext.complete();
+                }
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            dequeue(this);
+            reject(TIMED_OUT_MESSAGE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finished.set(true);
+            dequeue(this);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finished.set(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
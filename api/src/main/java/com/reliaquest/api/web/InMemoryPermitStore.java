@@ -0,0 +1,44 @@
+package com.reliaquest.api.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-local {@link PermitStore} with the same semantics as {@link RedisPermitStore}, for tests and single-node
+ * runs of the leased backend ({@code rateLimiter.backend=in-memory}).
+ */
+public class InMemoryPermitStore implements PermitStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemoryPermitStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryPermitStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public int take(String key, double permitsPerSecond, int capacity, int requested) {
+        long now = nanoClock.getAsLong();
+        int[] granted = new int[1];
+        buckets.compute(key, (ignored, bucket) -> {
+            Bucket current =
+                    bucket == null ? new Bucket(capacity, now) : bucket.refill(now, permitsPerSecond, capacity);
+            granted[0] = (int) Math.min(requested, Math.floor(current.tokens()));
+            return new Bucket(current.tokens() - granted[0], now);
+        });
+        return granted[0];
+    }
+
+    private record Bucket(double tokens, long updatedNanos) {
+
+        Bucket refill(long now, double permitsPerSecond, int capacity) {
+            double elapsedSeconds = Math.max(0, now - updatedNanos) / 1_000_000_000d;
+            return new Bucket(Math.min(capacity, tokens + elapsedSeconds * permitsPerSecond), now);
+        }
+    }
+}
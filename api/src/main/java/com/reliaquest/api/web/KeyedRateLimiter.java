@@ -0,0 +1,65 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.RateLimiterProperties;
+import com.reliaquest.api.config.RateLimiterProperties.KeyBy;
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Principal;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Maps a request to its bucket: per client, per endpoint or per client and endpoint, according to
+ * {@code rateLimiter.keyBy}. Permits come from the configured {@link RateLimiterBackend}.
+ */
+@Component
+public class KeyedRateLimiter {
+
+    static final String UNKNOWN_ENDPOINT = "other";
+
+    private final RateLimiterProperties properties;
+    private final RateLimiterBackend backend;
+
+    public KeyedRateLimiter(RateLimiterProperties properties, RateLimiterBackend backend) {
+        this.properties = properties;
+        this.backend = backend;
+    }
+
+    /**
+     * False when the process-wide {@link SimpleRateLimiter} is in charge: one global bucket kept locally.
+     */
+    public boolean isActive() {
+        return properties.getKeyBy() != KeyBy.GLOBAL || properties.getBackend() != RateLimiterProperties.Backend.LOCAL;
+    }
+
+    public Bucket resolve(HttpServletRequest request, Object handler) {
+        String endpoint = handler instanceof HandlerMethod handlerMethod
+                ? handlerMethod.getMethod().getName()
+                : UNKNOWN_ENDPOINT;
+        String key =
+                switch (properties.getKeyBy()) {
+                    case CLIENT -> "client:" + clientOf(request);
+                    case ENDPOINT -> "endpoint:" + endpoint;
+                    case CLIENT_AND_ENDPOINT -> "client:" + clientOf(request) + "|endpoint:" + endpoint;
+                    case GLOBAL -> "global";
+                };
+        RateLimiterProperties.Limit limit =
+                properties.getKeyBy() == KeyBy.CLIENT ? properties.limitFor(null) : properties.limitFor(endpoint);
+        return new Bucket(key, limit, backend);
+    }
+
+    /**
+     * The authenticated principal when there is one, the remote address otherwise. Unverified request headers are not
+     * used: a caller could rotate them to get a fresh bucket on every request and push other clients' buckets out.
+     */
+    private static String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    public record Bucket(String key, RateLimiterProperties.Limit limit, RateLimiterBackend backend) {
+
+        public boolean tryAcquire() {
+            return backend.tryAcquire(key, limit);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.api.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.config.RateLimiterProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares one budget per key across api instances through a {@link PermitStore}, without a store round trip per
+ * request.
+ *
+ * <p>Each instance leases permits from the shared bucket in batches of up to {@code lease.size} and hands them out
+ * locally with a single atomic decrement. Only when its lease runs out does it go back to the store. Leases expire
+ * after {@code lease.ttlMillis}. Permits left unused at expiry are forfeited rather than returned, which keeps the
+ * cluster at or under the configured rate. When the store has nothing left, the instance waits one emission interval
+ * before asking again, so throttled traffic does not hammer the store. If the store cannot be reached, requests are
+ * refused.
+ */
+@Slf4j
+public class LeasedRateLimiterBackend implements RateLimiterBackend {
+
+    private final PermitStore store;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Lease> leases;
+
+    public LeasedRateLimiterBackend(PermitStore store, RateLimiterProperties properties) {
+        this(store, properties, System::nanoTime);
+    }
+
+    LeasedRateLimiterBackend(PermitStore store, RateLimiterProperties properties, LongSupplier nanoClock) {
+        this.store = store;
+        this.leaseSize = Math.max(1, properties.getLease().getSize());
+        this.leaseTtlNanos =
+                Duration.ofMillis(properties.getLease().getTtlMillis()).toNanos();
+        this.nanoClock = nanoClock;
+        this.leases = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleBucketExpiryMillis()))
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimiterProperties.Limit limit) {
+        return leases.asMap().computeIfAbsent(key, ignored -> new Lease()).tryAcquire(key, limit);
+    }
+
+    private final class Lease {
+
+        private final AtomicInteger remaining = new AtomicInteger();
+        // Held across the store round trip, so not a monitor, which would pin a virtual thread.
+        private final ReentrantLock renewal = new ReentrantLock();
+        private volatile long expiresAtNanos;
+        private volatile long nextRequestAtNanos;
+
+        private Lease() {
+            long now = nanoClock.getAsLong();
+            this.expiresAtNanos = now;
+            this.nextRequestAtNanos = now;
+        }
+
+        boolean tryAcquire(String key, RateLimiterProperties.Limit limit) {
+            if (takeLocal()) {
+                return true;
+            }
+            renewal.lock();
+            try {
+                if (takeLocal()) {
+                    return true;
+                }
+                long now = nanoClock.getAsLong();
+                if (now - nextRequestAtNanos < 0) {
+                    return false;
+                }
+                int granted = leaseFromStore(key, limit);
+                if (granted == 0) {
+                    nextRequestAtNanos = now + (long) (1_000_000_000d / limit.getPermitsPerSecond());
+                    return false;
+                }
+                expiresAtNanos = now + leaseTtlNanos;
+                remaining.set(granted - 1);
+                return true;
+            } finally {
+                renewal.unlock();
+            }
+        }
+
+        private boolean takeLocal() {
+            if (nanoClock.getAsLong() - expiresAtNanos >= 0) {
+                return false;
+            }
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private int leaseFromStore(String key, RateLimiterProperties.Limit limit) {
+            try {
+                return store.take(
+                        key, limit.getPermitsPerSecond(), limit.getBurst(), Math.min(leaseSize, limit.getBurst()));
+            } catch (RuntimeException ex) {
+                log.warn("Unable to lease permits for {}, refusing request: {}", key, ex.getMessage());
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.config.RateLimiterProperties;
+import java.time.Duration;
+
+/**
+ * In-process buckets: each api instance enforces its limits on its own.
+ *
+ * <p>Buckets live in a Guava cache, which is lock-striped, bounded by {@code maxBuckets} and drops buckets idle for
+ * longer than {@code idleBucketExpiryMillis}. A flood of distinct client ids therefore cannot grow memory without bound,
+ * and callers only ever contend on their own bucket.
+ */
+public class LocalRateLimiterBackend implements RateLimiterBackend {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimiterBackend(RateLimiterProperties properties) {
+        this.buckets = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleBucketExpiryMillis()))
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimiterProperties.Limit limit) {
+        return buckets.asMap()
+                .computeIfAbsent(key, ignored -> new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst()))
+                .tryAcquire();
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.size();
+    }
+}
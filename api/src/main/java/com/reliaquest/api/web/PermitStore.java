@@ -0,0 +1,18 @@
+package com.reliaquest.api.web;
+
+/**
+ * Shared token buckets that several api instances draw permits from.
+ *
+ * @see RedisPermitStore
+ * @see InMemoryPermitStore
+ */
+public interface PermitStore {
+
+    /**
+     * Atomically takes up to {@code requested} permits from the bucket {@code key}, which refills at
+     * {@code permitsPerSecond} up to {@code capacity} and starts full.
+     *
+     * @return the number of permits taken, between 0 and {@code requested}
+     */
+    int take(String key, double permitsPerSecond, int capacity, int requested);
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.RateLimiterProperties;
+
+/**
+ * Where keyed permits come from, selected with {@code rateLimiter.backend}.
+ *
+ * @see LocalRateLimiterBackend
+ * @see LeasedRateLimiterBackend
+ */
+public interface RateLimiterBackend {
+
+    /**
+     * Takes one permit from the bucket identified by {@code key}, creating it with {@code limit} on first use.
+     */
+    boolean tryAcquire(String key, RateLimiterProperties.Limit limit);
+}
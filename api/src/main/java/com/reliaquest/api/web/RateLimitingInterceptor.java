@@ -1,32 +1,77 @@
 package com.reliaquest.api.web;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.function.BooleanSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Component
 public class RateLimitingInterceptor implements HandlerInterceptor {
 
+    private static final String GLOBAL_KEY = "global";
+
     @Value("${rateLimiter.enabled:true}")
     private boolean isRateLimiterEnabled;
 
     private final SimpleRateLimiter simpleRateLimiter;
+    private final AsyncRateLimitQueue asyncQueue;
+    private final KeyedRateLimiter keyedRateLimiter;
 
     public RateLimitingInterceptor(SimpleRateLimiter simpleRateLimiter) {
+        this(simpleRateLimiter, null, null);
+    }
+
+    /**
+     * @param asyncQueue present when {@code rateLimiter.mode=async}; throttled requests are then queued instead of
+     *     retried on the request thread
+     * @param keyedRateLimiter used instead of the global limiter unless {@code rateLimiter.keyBy=global} with the
+     *     local backend
+     */
+    @Autowired
+    public RateLimitingInterceptor(
+            SimpleRateLimiter simpleRateLimiter,
+            @Nullable AsyncRateLimitQueue asyncQueue,
+            @Nullable KeyedRateLimiter keyedRateLimiter) {
         this.simpleRateLimiter = simpleRateLimiter;
+        this.asyncQueue = asyncQueue;
+        this.keyedRateLimiter = keyedRateLimiter;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
-        if (!isRateLimiterEnabled) {
+        if (!isRateLimiterEnabled || request.getDispatcherType() == DispatcherType.ASYNC) {
+            // The permit was already taken when the request was first dispatched.
             return true;
         }
 
-        if (!simpleRateLimiter.tryAcquireWithRetry()) {
+        KeyedRateLimiter.Bucket bucket = keyedRateLimiter != null && keyedRateLimiter.isActive()
+                ? keyedRateLimiter.resolve(request, handler)
+                : null;
+
+        if (asyncQueue != null) {
+            String key = bucket == null ? GLOBAL_KEY : bucket.key();
+            BooleanSupplier permit = bucket == null ? simpleRateLimiter::tryAcquire : bucket::tryAcquire;
+            if (asyncQueue.tryAcquireNow(key, permit)) {
+                return true;
+            }
+            if (!asyncQueue.enqueue(request, response, key, permit)) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.getWriter().write(AsyncRateLimitQueue.QUEUE_FULL_MESSAGE);
+            }
+            return false;
+        }
+
+        boolean acquired = bucket == null
+                ? simpleRateLimiter.tryAcquireWithRetry()
+                : simpleRateLimiter.tryAcquireWithRetry(bucket::tryAcquire);
+        if (!acquired) {
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.getWriter().write("Too many requests - rate limit exceeded after retries");
             return false;
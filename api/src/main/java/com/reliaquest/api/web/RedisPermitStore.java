@@ -0,0 +1,57 @@
+package com.reliaquest.api.web;
+
+import java.util.List;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * {@link PermitStore} backed by Redis, shared by every api instance pointing at the same server.
+ *
+ * <p>Each bucket is a hash holding the token count and the time it was last refilled. A Lua script refills and takes
+ * permits in one atomic step using the Redis server clock, so instances need no clock agreement. Buckets expire once
+ * they would have refilled completely.
+ */
+public class RedisPermitStore implements PermitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>(
+            """
+            local rate = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'micros')
+            local tokens = tonumber(state[1])
+            local updated = tonumber(state[2])
+            if tokens == nil or updated == nil then
+              tokens = capacity
+            else
+              tokens = math.min(capacity, tokens + math.max(0, now - updated) / 1000000 * rate)
+            end
+            local granted = math.min(requested, math.floor(tokens))
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - granted), 'micros', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000) + 1000)
+            return granted
+            """,
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisPermitStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int take(String key, double permitsPerSecond, int capacity, int requested) {
+        Long granted = redisTemplate.execute(
+                TAKE_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                Double.toString(permitsPerSecond),
+                Integer.toString(capacity),
+                Integer.toString(requested));
+        return granted == null ? 0 : granted.intValue();
+    }
+}
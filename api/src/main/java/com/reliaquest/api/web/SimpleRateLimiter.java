@@ -1,6 +1,7 @@
 package com.reliaquest.api.web;
 
 import com.google.common.util.concurrent.RateLimiter;
+import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,11 +30,18 @@ public class SimpleRateLimiter {
     }
 
     public boolean tryAcquireWithRetry() {
+        return tryAcquireWithRetry(rateLimiter::tryAcquire);
+    }
+
+    /**
+     * Applies the configured retry and backoff to another permit source, such as a keyed {@link TokenBucket}.
+     */
+    public boolean tryAcquireWithRetry(BooleanSupplier permit) {
         int attempt = 0;
         long backoff = initialBackoffMillis;
 
         while (attempt < maxRetryAttempts) {
-            if (rateLimiter.tryAcquire()) {
+            if (permit.getAsBoolean()) {
                 if (attempt > 0) {
                     log.info("Acquired permit after {} retry attempt(s)", attempt);
                 }
@@ -0,0 +1,49 @@
+package com.reliaquest.api.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket with a sustained rate and a burst allowance.
+ *
+ * <p>Implemented as the generic cell rate algorithm: the whole bucket state is a single "theoretical arrival time"
+ * that each granted permit pushes one emission interval into the future. A permit is refused while that time runs
+ * more than {@code burst - 1} intervals ahead of now. Acquiring is one CAS on an {@link AtomicLong}, so concurrent
+ * callers never block one another.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1, got %s and %d"
+                    .formatted(permitsPerSecond, burst));
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000d / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrivalNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long start = Math.max(arrival, now);
+            if (start - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Ticker;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class EmployeeByIdCacheTest {
+
+    private static final class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advanceMillis(long millis) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    private Employee employee(String id, String name) {
+        return new Employee(id, name, 100, 30, "Engineer", name + "@company.com");
+    }
+
+    @Test
+    void cachesEmployeesAndNotFoundIdsSeparately() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 10, 60_000, 60_000);
+        Employee alice = employee("1", "Alice");
+
+        cache.put(alice);
+        cache.putNotFound("2", "Employee not found");
+
+        assertThat(cache.get("1")).containsSame(alice);
+        assertThat(cache.notFoundMessage("1")).isEmpty();
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.notFoundMessage("2")).contains("Employee not found");
+    }
+
+    @Test
+    void putReplacesNotFoundAndNotFoundReplacesPut() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 10, 60_000, 60_000);
+
+        cache.putNotFound("1", "Employee not found");
+        cache.put(employee("1", "Alice"));
+        assertThat(cache.notFoundMessage("1")).isEmpty();
+
+        cache.putNotFound("1", "Employee not found");
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    void invalidationDropsBothKinds() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 10, 60_000, 60_000);
+        cache.put(employee("1", "Alice"));
+        cache.put(employee("2", "Bob"));
+        cache.putNotFound("3", "Employee not found");
+
+        cache.invalidate("1");
+        cache.invalidateAll(List.of("2", "3"));
+
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.notFoundMessage("3")).isEmpty();
+    }
+
+    @Test
+    void evictsBeyondMaximumSize() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 2, 60_000, 60_000);
+
+        cache.put(employee("1", "Alice"));
+        cache.put(employee("2", "Bob"));
+        cache.put(employee("3", "Carol"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("3")).isPresent();
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        FakeTicker ticker = new FakeTicker();
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 10, 60_000, 10_000, ticker);
+        cache.put(employee("1", "Alice"));
+        cache.putNotFound("2", "Employee not found");
+
+        ticker.advanceMillis(10_000);
+        assertThat(cache.get("1")).isPresent();
+        assertThat(cache.notFoundMessage("2")).isEmpty();
+
+        ticker.advanceMillis(50_000);
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    void disabledCacheHoldsNothing() {
+        EmployeeByIdCache cache = EmployeeByIdCache.disabled();
+
+        cache.put(employee("1", "Alice"));
+        cache.putNotFound("2", "Employee not found");
+
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.notFoundMessage("2")).isEmpty();
+    }
+
+    @Test
+    void publishesHitMissAndEvictionMetrics() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(true, 1, 60_000, 60_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.put(employee("1", "Alice"));
+        cache.get("1");
+        cache.get("2");
+        cache.put(employee("2", "Bob"));
+        cache.size();
+
+        assertThat(registry.get("cache.gets")
+                        .tag("cache", "employeeById")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.gets")
+                        .tag("cache", "employeeById")
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.evictions")
+                        .tag("cache", "employeeById")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+}
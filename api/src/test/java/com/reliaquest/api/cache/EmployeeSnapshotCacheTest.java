@@ -0,0 +1,376 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.dto.RosterPosition;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class EmployeeSnapshotCacheTest {
+
+    private ApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = mock(ApiClient.class);
+    }
+
+    private Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name + "@company.com");
+    }
+
+    private EmployeeDataDTO<List<Employee>> roster(Employee... employees) {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(employees));
+        return dto;
+    }
+
+    @Test
+    void snapshot_reusesSnapshotWithinStalenessWindow() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+
+        RosterSnapshot first = cache.snapshot();
+        RosterSnapshot second = cache.snapshot();
+
+        assertThat(second).isSameAs(first);
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void snapshot_refetchesWhenDisabled() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, false, 60_000);
+
+        cache.snapshot();
+        cache.snapshot();
+
+        verify(apiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void refreshInBackground_keepsPreviousSnapshotOnFailure() {
+        when(apiClient.getAllEmployees())
+                .thenReturn(roster(employee("1", "Alice", 100)))
+                .thenThrow(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        RosterSnapshot before = cache.snapshot();
+
+        cache.refreshInBackground();
+
+        assertThat(cache.snapshot()).isSameAs(before);
+    }
+
+    @Test
+    void snapshot_propagatesFailureWhenNothingCached() {
+        when(apiClient.getAllEmployees())
+                .thenThrow(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+
+        assertThrows(EmployeeApiException.class, cache::snapshot);
+    }
+
+    @Test
+    void localWrites_patchSnapshotAndBumpVersion() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100), employee("2", "Bob", 200)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        long initialVersion = cache.snapshot().version();
+
+        cache.onEmployeeCreated(employee("3", "Carol", 300));
+        cache.onEmployeeDeleted("1");
+
+        RosterSnapshot patched = cache.snapshot();
+        assertThat(patched.version()).isGreaterThan(initialVersion);
+        assertThat(patched.employees()).extracting(Employee::getName).containsExactly("Bob", "Carol");
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void onEmployeesCreated_afterRefreshAlreadyFetchedThemDoesNotDuplicate() {
+        Employee carol = employee("3", "Carol", 300);
+        when(apiClient.getAllEmployees())
+                .thenReturn(roster(employee("1", "Alice", 100)))
+                .thenReturn(roster(employee("1", "Alice", 100), carol));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000, 0, false);
+        cache.snapshot();
+
+        // A background refresh that already saw the new employees wins the race with the write's own patch.
+        cache.refresh();
+        cache.onEmployeeCreated(carol);
+        cache.onEmployeesCreated(List.of(carol));
+
+        RosterSnapshot patched = cache.snapshot();
+        assertThat(patched.employees()).extracting(Employee::getName).containsExactly("Alice", "Carol");
+        assertThat(patched.salaryIndex().size()).isEqualTo(2);
+        assertThat(patched.nameIndex().search("carol")).containsExactly(carol);
+    }
+
+    @Test
+    void refresh_keepsIndexesWhenRosterUnchanged() {
+        EmployeeDataDTO<List<Employee>> unchanged = roster(employee("1", "Alice", 100));
+        when(apiClient.getAllEmployees())
+                .thenReturn(unchanged)
+                .thenReturn(unchanged)
+                .thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        RosterSnapshot first = cache.snapshot();
+
+        RosterSnapshot revalidated = cache.refresh();
+        RosterSnapshot changed = cache.refresh();
+
+        assertThat(revalidated.version()).isGreaterThan(first.version());
+        assertThat(revalidated.salaryIndex()).isSameAs(first.salaryIndex());
+        assertThat(revalidated.nameIndex()).isSameAs(first.nameIndex());
+        assertThat(changed.salaryIndex()).isNotSameAs(first.salaryIndex());
+    }
+
+    private EmployeeChangesDTO changes(long version, EmployeeChangesDTO.Change... changes) {
+        EmployeeChangesDTO dto = new EmployeeChangesDTO();
+        dto.setEpoch("e1");
+        dto.setVersion(version);
+        dto.setChanges(List.of(changes));
+        return dto;
+    }
+
+    private EmployeeChangesDTO.Change created(long seq, Employee employee) {
+        return new EmployeeChangesDTO.Change(seq, EmployeeChangesDTO.Change.Type.CREATED, employee.getId(), employee);
+    }
+
+    private EmployeeChangesDTO.Change deleted(long seq, Employee employee) {
+        return new EmployeeChangesDTO.Change(seq, EmployeeChangesDTO.Change.Type.DELETED, employee.getId(), employee);
+    }
+
+    @Test
+    void refresh_appliesChangesSinceKnownRosterVersion() {
+        Employee alice = employee("1", "Alice", 100);
+        when(apiClient.getAllEmployees()).thenReturn(roster(alice, employee("2", "Bob", 200)));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChanges(new RosterPosition("e1", 5)))
+                .thenReturn(changes(7, created(6, employee("3", "Carol", 300)), deleted(7, alice)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.snapshot();
+
+        RosterSnapshot synced = cache.refresh();
+
+        assertThat(synced.employees()).extracting(Employee::getName).containsExactly("Bob", "Carol");
+        assertThat(synced.findById("1")).isEmpty();
+        assertThat(synced.salaryIndex().highest()).hasValue(300);
+        assertThat(synced.upstream()).isEqualTo(new RosterPosition("e1", 7));
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_replayingLocallyPatchedCreateDoesNotDuplicateIt() {
+        Employee carol = employee("3", "Carol", 300);
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChanges(any())).thenReturn(changes(6, created(6, carol)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.snapshot();
+        cache.onEmployeeCreated(carol);
+
+        RosterSnapshot synced = cache.refresh();
+
+        assertThat(synced.employees()).extracting(Employee::getName).containsExactly("Alice", "Carol");
+    }
+
+    @Test
+    void refresh_keepsIndexesWhenNothingChanged() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChanges(any())).thenReturn(changes(5));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        RosterSnapshot first = cache.snapshot();
+
+        RosterSnapshot synced = cache.refresh();
+
+        assertThat(synced.version()).isGreaterThan(first.version());
+        assertThat(synced.nameIndex()).isSameAs(first.nameIndex());
+    }
+
+    @Test
+    void refresh_refetchesRosterWhenChangesAreGone() {
+        when(apiClient.getAllEmployees())
+                .thenReturn(roster(employee("1", "Alice", 100)))
+                .thenReturn(roster(employee("2", "Bob", 200)));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChanges(any()))
+                .thenThrow(new EmployeeApiException("Changes are no longer available", HttpStatus.GONE));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.snapshot();
+
+        RosterSnapshot refetched = cache.refresh();
+
+        assertThat(refetched.employees()).extracting(Employee::getName).containsExactly("Bob");
+        verify(apiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_refetchesRosterWhenDeltaSyncDisabled() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000, 0, false);
+        cache.snapshot();
+
+        cache.refresh();
+
+        verify(apiClient, times(2)).getAllEmployees();
+        verify(apiClient, never()).getEmployeeChanges(any());
+    }
+
+    @Test
+    void invalidate_forcesRefetch() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.snapshot();
+
+        cache.invalidate();
+        cache.snapshot();
+
+        verify(apiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void snapshotAsync_concurrentCallersShareOneRefresh() throws Exception {
+        Sinks.One<EmployeeDataDTO<List<Employee>>> upstream = Sinks.one();
+        when(apiClient.getAllEmployeesAsync()).thenReturn(upstream.asMono());
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.empty());
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+
+        CompletableFuture<RosterSnapshot> first = cache.snapshotAsync().toFuture();
+        CompletableFuture<RosterSnapshot> second = cache.snapshotAsync().toFuture();
+        upstream.tryEmitValue(roster(employee("1", "Alice", 100)));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull().isSameAs(second.get(5, TimeUnit.SECONDS));
+        verify(apiClient, times(1)).getAllEmployeesAsync();
+    }
+
+    @Test
+    void refreshAsync_keepsRosterVersionAndCatchesUpFromIt() {
+        Employee alice = employee("1", "Alice", 100);
+        when(apiClient.getAllEmployeesAsync()).thenReturn(Mono.just(roster(alice, employee("2", "Bob", 200))));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChangesAsync(new RosterPosition("e1", 5)))
+                .thenReturn(Mono.just(changes(7, created(6, employee("3", "Carol", 300)), deleted(7, alice))));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+
+        assertThat(cache.refreshAsync().block().upstream()).isEqualTo(new RosterPosition("e1", 5));
+        RosterSnapshot synced = cache.refreshAsync().block();
+
+        assertThat(synced.employees()).extracting(Employee::getName).containsExactly("Bob", "Carol");
+        assertThat(synced.upstream()).isEqualTo(new RosterPosition("e1", 7));
+        verify(apiClient, times(1)).getAllEmployeesAsync();
+    }
+
+    @Test
+    void refreshAsync_refetchesRosterWhenChangesAreGone() {
+        when(apiClient.getAllEmployeesAsync())
+                .thenReturn(Mono.just(roster(employee("1", "Alice", 100))))
+                .thenReturn(Mono.just(roster(employee("2", "Bob", 200))));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.of(new RosterPosition("e1", 5)));
+        when(apiClient.getEmployeeChangesAsync(any()))
+                .thenReturn(Mono.error(new EmployeeApiException("Changes are no longer available", HttpStatus.GONE)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.refreshAsync().block();
+
+        RosterSnapshot refetched = cache.refreshAsync().block();
+
+        assertThat(refetched.employees()).extracting(Employee::getName).containsExactly("Bob");
+        verify(apiClient, times(2)).getAllEmployeesAsync();
+    }
+
+    @Test
+    void refreshAsync_buildsSnapshotOffTheThreadThatDeliveredTheRoster() {
+        when(apiClient.getAllEmployeesAsync()).thenReturn(Mono.just(roster(employee("1", "Alice", 100))));
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.empty());
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+
+        String builtOn = cache.refreshAsync()
+                .map(snapshot -> Thread.currentThread().getName())
+                .block();
+
+        assertThat(builtOn)
+                .startsWith("parallel-")
+                .isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void refreshAsync_replaysLocalWritesMadeWhileFetching() throws Exception {
+        Sinks.One<EmployeeDataDTO<List<Employee>>> upstream = Sinks.one();
+        when(apiClient.getAllEmployeesAsync())
+                .thenReturn(Mono.just(roster(employee("1", "Alice", 100), employee("2", "Bob", 200))))
+                .thenReturn(upstream.asMono());
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.empty());
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        RosterSnapshot before = cache.refreshAsync().block();
+
+        CompletableFuture<RosterSnapshot> refreshing = cache.refreshAsync().toFuture();
+        cache.onEmployeeCreated(employee("3", "Carol", 300));
+        cache.onEmployeeDeleted("1");
+        // The mock server answered before either write reached it.
+        upstream.tryEmitValue(roster(employee("1", "Alice", 100), employee("2", "Bob", 200)));
+
+        RosterSnapshot refreshed = refreshing.get(5, TimeUnit.SECONDS);
+        assertThat(refreshed).isNotNull().isSameAs(cache.snapshot());
+        assertThat(refreshed.version()).isGreaterThan(before.version());
+        assertThat(refreshed.employees()).extracting(Employee::getName).containsExactly("Bob", "Carol");
+        assertThat(refreshed.salaryIndex().topNames()).containsExactly("Carol", "Bob");
+    }
+
+    @Test
+    void refreshAsync_installsFetchedSnapshotWhenInvalidatedWhileFetching() throws Exception {
+        Sinks.One<EmployeeDataDTO<List<Employee>>> upstream = Sinks.one();
+        when(apiClient.getAllEmployeesAsync())
+                .thenReturn(Mono.just(roster(employee("1", "Alice", 100))))
+                .thenReturn(upstream.asMono());
+        when(apiClient.rosterPosition(any())).thenReturn(Optional.empty());
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        cache.refreshAsync().block();
+
+        CompletableFuture<RosterSnapshot> refreshing = cache.refreshAsync().toFuture();
+        cache.invalidate();
+        upstream.tryEmitValue(roster(employee("2", "Bob", 200)));
+
+        RosterSnapshot refreshed = refreshing.get(5, TimeUnit.SECONDS);
+        assertThat(refreshed).isNotNull().isSameAs(cache.snapshot());
+        assertThat(refreshed.employees()).extracting(Employee::getName).containsExactly("Bob");
+        verify(apiClient, times(2)).getAllEmployeesAsync();
+    }
+
+    @Test
+    void staleFallback_keepsLastSnapshotAcrossInvalidation() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(apiClient, true, 60_000, 60_000);
+        RosterSnapshot before = cache.snapshot();
+
+        cache.invalidate();
+
+        assertThat(cache.staleFallback()).containsSame(before);
+    }
+
+    @Test
+    void staleFallback_emptyWhenDisabledOrTooOld() {
+        when(apiClient.getAllEmployees()).thenReturn(roster(employee("1", "Alice", 100)));
+        EmployeeSnapshotCache disabled = new EmployeeSnapshotCache(apiClient, true, 60_000);
+        EmployeeSnapshotCache tooOld = new EmployeeSnapshotCache(apiClient, true, 60_000, -1);
+        disabled.snapshot();
+        tooOld.snapshot();
+
+        assertThat(disabled.staleFallback()).isEmpty();
+        assertThat(tooOld.staleFallback()).isEmpty();
+    }
+}
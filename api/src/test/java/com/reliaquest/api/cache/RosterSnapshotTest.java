@@ -0,0 +1,109 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotTest {
+
+    private Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name + "@company.com");
+    }
+
+    private List<Employee> roster(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> employee(String.valueOf(i), "Employee" + i, 1000 + i))
+                .toList();
+    }
+
+    @Test
+    void withAdded_replacesEmployeeWithTheSameId() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, 0, roster(100));
+        Employee renamed = employee("7", "Renamed", 99_000);
+
+        RosterSnapshot patched = snapshot.withAdded(renamed, 2);
+
+        assertThat(patched.employees()).hasSize(100).endsWith(renamed);
+        assertThat(patched.employees()).extracting(Employee::getId).doesNotHaveDuplicates();
+        assertThat(patched.findById("7")).containsSame(renamed);
+        assertThat(patched.salaryIndex().size()).isEqualTo(100);
+        assertThat(patched.salaryIndex().topNames()).startsWith("Renamed", "Employee99");
+        assertThat(patched.nameIndex().search("Employee7"))
+                .extracting(Employee::getId)
+                .doesNotContain("7");
+        assertThat(patched.nameIndex().search("Renamed")).containsExactly(renamed);
+    }
+
+    @Test
+    void withChanges_replacesOnTheAddPathToo() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, 0, roster(100));
+        Employee again = employee("3", "Employee3", 1003);
+
+        RosterSnapshot patched = snapshot.withChanges(List.of(again, employee("100", "New", 5)), Set.of("4"), 2);
+
+        assertThat(patched.employees()).hasSize(100);
+        assertThat(patched.employees()).extracting(Employee::getId).doesNotHaveDuplicates();
+        assertThat(patched.employees()).extracting(Employee::getId).endsWith("3", "100");
+        assertThat(patched.findById("4")).isEmpty();
+        assertThat(patched.nameIndex().search("Employee3"))
+                .filteredOn(employee -> employee.getId().equals("3"))
+                .containsExactly(again);
+    }
+
+    @Test
+    void patchesLeaveEarlierSnapshotsIntact() {
+        List<Employee> employees = roster(100);
+        RosterSnapshot snapshot = RosterSnapshot.of(1, 0, employees);
+
+        RosterSnapshot patched = snapshot.withRemoved("0", 2).withAdded(employee("100", "New", 5), 3);
+
+        assertThat(snapshot.employees()).isSameAs(employees);
+        assertThat(snapshot.findById("0")).isPresent();
+        assertThat(snapshot.findById("100")).isEmpty();
+        assertThat(patched.employees()).hasSize(100).startsWith(employees.get(1));
+        assertThat(patched.findById("0")).isEmpty();
+    }
+
+    @Test
+    void withRemoved_ignoresUnknownId() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, 0, roster(3));
+
+        assertThat(snapshot.withRemoved("missing", 2)).isSameAs(snapshot);
+    }
+
+    @Test
+    void incrementalPatchesMatchAFullRebuild() {
+        Random random = new Random(11);
+        RosterSnapshot snapshot = RosterSnapshot.of(1, 0, roster(400));
+        List<Employee> expected = new ArrayList<>(roster(400));
+        for (int i = 0; i < 300; i++) {
+            String id = String.valueOf(random.nextInt(500));
+            if (random.nextBoolean()) {
+                Employee employee = employee(id, "Patched" + i, random.nextInt(50) * 100);
+                expected.removeIf(existing -> existing.getId().equals(id));
+                expected.add(employee);
+                snapshot = snapshot.withAdded(employee, i + 2);
+            } else {
+                expected.removeIf(existing -> existing.getId().equals(id));
+                snapshot = snapshot.withRemoved(id, i + 2);
+            }
+        }
+
+        assertThat(snapshot.employees()).containsExactlyElementsOf(expected);
+        SalaryIndex salaries = SalaryIndex.build(expected);
+        assertThat(snapshot.salaryIndex().topNames()).isEqualTo(salaries.topNames());
+        assertThat(snapshot.salaryIndex().size()).isEqualTo(salaries.size());
+        NameSearchIndex names = NameSearchIndex.build(expected);
+        for (String query : List.of("patched1", "employee3", "ed2", "e")) {
+            assertThat(snapshot.nameIndex().search(query)).as(query).isEqualTo(names.search(query));
+        }
+    }
+}
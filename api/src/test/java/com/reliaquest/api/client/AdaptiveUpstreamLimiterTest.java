@@ -0,0 +1,182 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.config.UpstreamLimiterProperties;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+class AdaptiveUpstreamLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ClientRequest request = ClientRequest.create(
+                    HttpMethod.GET, URI.create("http://localhost/api/v1/employee"))
+            .build();
+
+    private UpstreamLimiterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UpstreamLimiterProperties();
+        properties.setInitialPermitsPerSecond(1000);
+        properties.setMaxPermitsPerSecond(1000);
+        properties.setInitialConcurrency(4);
+        properties.setInitialCooldownMillis(1000);
+    }
+
+    @Test
+    void successfulCallsRaiseRateAndConcurrency() {
+        properties.setInitialPermitsPerSecond(2);
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.onSuccess();
+        }
+
+        assertThat(limiter.getPermitsPerSecond()).isGreaterThan(3);
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(4);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getConcurrencyLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    void throttledResponseCutsRateAndPausesUntilRetryAfter() {
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+
+        ClientResponse throttled = send(limiter, respondWith(HttpStatus.TOO_MANY_REQUESTS, "3"));
+
+        assertThat(throttled.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(500);
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(2);
+        assertThat(limiter.getThrottledResponses()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2900));
+        UpstreamThrottledException ex =
+                assertThrows(UpstreamThrottledException.class, () -> send(limiter, respondWith(HttpStatus.OK, null)));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(100));
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(limiter.getRejectedCalls()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(send(limiter, respondWith(HttpStatus.OK, null)).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void cooldownWithoutRetryAfterDoublesWhileProbesKeepFailing() {
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+        ExchangeFunction throttled = respondWith(HttpStatus.TOO_MANY_REQUESTS, null);
+
+        send(limiter, throttled);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        send(limiter, throttled);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1999));
+        assertThrows(UpstreamThrottledException.class, () -> send(limiter, respondWith(HttpStatus.OK, null)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        send(limiter, respondWith(HttpStatus.OK, null));
+
+        // A success resets the streak, so the next 429 keeps the learned cooldown instead of doubling it again.
+        send(limiter, throttled);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2000));
+        assertThat(send(limiter, respondWith(HttpStatus.OK, null)).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void concurrent429sOnlyDecreaseOnce() {
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+
+        limiter.onThrottled(Duration.ofSeconds(5));
+        limiter.onThrottled(Duration.ofSeconds(5));
+
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(500);
+        assertThat(limiter.getThrottledResponses()).isEqualTo(2);
+    }
+
+    @Test
+    void failsFastWhenConcurrencyLimitIsReached() {
+        properties.setInitialConcurrency(1);
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+        ExchangeFunction hanging = req -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.never();
+        };
+
+        limiter.filter(request, hanging).subscribe();
+
+        assertThrows(UpstreamThrottledException.class, () -> send(limiter, respondWith(HttpStatus.OK, null)));
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void failsFastWhenPacingDelayWouldBeTooLong() {
+        properties.setInitialPermitsPerSecond(1);
+        properties.setMaxPacingDelayMillis(500);
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+
+        send(limiter, respondWith(HttpStatus.OK, null));
+
+        assertThrows(UpstreamThrottledException.class, () -> send(limiter, respondWith(HttpStatus.OK, null)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(send(limiter, respondWith(HttpStatus.OK, null)).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void disabledLimiterPassesEverythingThrough() {
+        properties.setEnabled(false);
+        AdaptiveUpstreamLimiter limiter = new AdaptiveUpstreamLimiter(properties, clock::get);
+
+        send(limiter, respondWith(HttpStatus.TOO_MANY_REQUESTS, "60"));
+        send(limiter, respondWith(HttpStatus.OK, null));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void parsesRetryAfterSecondsAndDates() {
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set(HttpHeaders.RETRY_AFTER, "42");
+        HttpHeaders past = new HttpHeaders();
+        past.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        HttpHeaders garbage = new HttpHeaders();
+        garbage.set(HttpHeaders.RETRY_AFTER, "soon");
+
+        assertThat(AdaptiveUpstreamLimiter.retryAfter(seconds)).isEqualTo(Duration.ofSeconds(42));
+        assertThat(AdaptiveUpstreamLimiter.retryAfter(past)).isEqualTo(Duration.ZERO);
+        assertThat(AdaptiveUpstreamLimiter.retryAfter(garbage)).isNull();
+        assertThat(AdaptiveUpstreamLimiter.retryAfter(new HttpHeaders())).isNull();
+    }
+
+    private ClientResponse send(AdaptiveUpstreamLimiter limiter, ExchangeFunction upstream) {
+        return limiter.filter(request, upstream).block();
+    }
+
+    private ExchangeFunction respondWith(HttpStatus status, String retryAfter) {
+        return req -> {
+            upstreamCalls.incrementAndGet();
+            ClientResponse.Builder response = ClientResponse.create(status);
+            if (retryAfter != null) {
+                response.header(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            return Mono.just(response.build());
+        };
+    }
+}
@@ -5,14 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.dto.BatchItemResult;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.RosterPosition;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.response.ApiResponse;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.*;
@@ -21,6 +31,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 @SpringBootTest
 public class ApiClientTest {
@@ -83,6 +94,119 @@ public class ApiClientTest {
         assertThat(result).hasSize(2).extracting(Employee::getName).contains("Alice", "Bob");
     }
 
+    @Test
+    void getAllEmployees_reusesDecodedRosterWhenNotModified() throws Exception {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(employee(UUID.randomUUID().toString(), "Alice", 1000, "Worker", 35, "test1@gmail.com")));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json")
+                .addHeader("ETag", "\"r-1\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304).addHeader("ETag", "\"r-1\""));
+
+        List<Employee> first = apiClient.getAllEmployees().getData();
+        List<Employee> second = apiClient.getAllEmployees().getData();
+
+        assertThat(second).isSameAs(first).extracting(Employee::getName).containsExactly("Alice");
+        assertThat(apiClient.getNotModifiedResponses()).isEqualTo(1);
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isNull();
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isEqualTo("\"r-1\"");
+    }
+
+    @Test
+    void getAllEmployees_replacesRosterWhenModified() throws Exception {
+        for (String name : List.of("Alice", "Bob")) {
+            EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+            dto.setData(List.of(employee(UUID.randomUUID().toString(), name, 1000, "Worker", 35, "test@gmail.com")));
+            mockWebServer.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setBody(toJson(dto))
+                    .addHeader("Content-Type", "application/json")
+                    .addHeader("ETag", "\"" + name + "\""));
+        }
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        apiClient.getAllEmployees();
+        apiClient.getAllEmployees();
+        List<Employee> third = apiClient.getAllEmployees().getData();
+
+        assertThat(third).extracting(Employee::getName).containsExactly("Bob");
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isEqualTo("\"Alice\"");
+        assertThat(mockWebServer.takeRequest().getHeader("If-None-Match")).isEqualTo("\"Bob\"");
+    }
+
+    @Test
+    void getAllEmployees_recordsRosterPositionForReturnedList() throws Exception {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(employee(UUID.randomUUID().toString(), "Alice", 1000, "Worker", 35, "test1@gmail.com")));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json")
+                .addHeader("X-Roster-Epoch", "e1")
+                .addHeader("X-Roster-Version", "42"));
+
+        List<Employee> roster = apiClient.getAllEmployees().getData();
+
+        assertThat(apiClient.rosterPosition(roster)).hasValue(new RosterPosition("e1", 42));
+        assertThat(apiClient.rosterPosition(new ArrayList<>(roster))).isEmpty();
+    }
+
+    @Test
+    void getEmployeeChanges_returnsChangesSinceVersion() throws Exception {
+        Employee carol = employee(UUID.randomUUID().toString(), "Carol", 1000, "Worker", 35, "test@gmail.com");
+        EmployeeChangesDTO changes = new EmployeeChangesDTO();
+        changes.setEpoch("e1");
+        changes.setVersion(43);
+        changes.setChanges(List.of(
+                new EmployeeChangesDTO.Change(43, EmployeeChangesDTO.Change.Type.CREATED, carol.getId(), carol)));
+        EmployeeDataDTO<EmployeeChangesDTO> dto = new EmployeeDataDTO<>();
+        dto.setData(changes);
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json"));
+
+        EmployeeChangesDTO result = apiClient.getEmployeeChanges(new RosterPosition("e1", 42));
+
+        assertThat(result.getVersion()).isEqualTo(43);
+        assertThat(result.getChanges())
+                .singleElement()
+                .satisfies(change -> assertThat(change.getEmployee().getName()).isEqualTo("Carol"));
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/api/v1/employee/changes?since=42&epoch=e1");
+    }
+
+    @Test
+    void getEmployeeChanges_gone_throwsGone() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(410));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class, () -> apiClient.getEmployeeChanges(new RosterPosition("e1", 1)));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.GONE);
+    }
+
+    @Test
+    void getAllEmployees_decodesRosterLargerThanMaxInMemorySize() throws Exception {
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setMaxInMemorySizeBytes(256);
+        ApiClient bounded = new ApiClient(webClient, objectMapper, new ResilienceProperties(), httpClientProperties);
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(IntStream.range(0, 10)
+                .mapToObj(i -> employee(UUID.randomUUID().toString(), "E" + i, 1000, "Worker", 35, "e@gmail.com"))
+                .toList());
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json"));
+
+        EmployeeDataDTO<List<Employee>> roster = bounded.getAllEmployees();
+
+        assertThat(toJson(dto).length()).isGreaterThan(256);
+        assertThat(roster.getData()).isEqualTo(dto.getData());
+    }
+
     @Test
     void getEmployeeById_returnsEmployee() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -101,6 +225,69 @@ public class ApiClientTest {
         assertThat(result.getId()).isEqualTo(id);
     }
 
+    @Test
+    void getEmployeeById_hedgesSlowCallAndTakesFirstAnswer() throws Exception {
+        ApiClient hedging = new ApiClient(webClient, objectMapper, hedging(50));
+        String id = UUID.randomUUID().toString();
+        EmployeeDataDTO<Employee> slow = new EmployeeDataDTO<>();
+        slow.setData(employee(id, "Slow", 1000, "Worker", 35, "slow@gmail.com"));
+        EmployeeDataDTO<Employee> fast = new EmployeeDataDTO<>();
+        fast.setData(employee(id, "Fast", 1000, "Worker", 35, "fast@gmail.com"));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeadersDelay(2, TimeUnit.SECONDS)
+                .setBody(toJson(slow))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(fast))
+                .addHeader("Content-Type", "application/json"));
+
+        assertThat(hedging.getEmployeeById(id).getData().getName()).isEqualTo("Fast");
+        assertThat(hedging.getHedgedCalls()).isEqualTo(1);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getEmployeeById_doesNotHedgeCallsAnsweredInTime() {
+        ApiClient hedging = new ApiClient(webClient, objectMapper, hedging(500));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody("Not Found"));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class,
+                () -> hedging.getEmployeeById(UUID.randomUUID().toString()));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(hedging.getHedgedCalls()).isZero();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployeeById_ignoresFailedHedge() throws Exception {
+        ApiClient hedging = new ApiClient(webClient, objectMapper, hedging(50));
+        String id = UUID.randomUUID().toString();
+        EmployeeDataDTO<Employee> dto = new EmployeeDataDTO<>();
+        dto.setData(employee(id, "Alice", 1000, "Worker", 35, "test@gmail.com"));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503).setBody("Unavailable"));
+
+        assertThat(hedging.getEmployeeById(id).getData().getName()).isEqualTo("Alice");
+        assertThat(hedging.getHedgedCalls()).isEqualTo(1);
+    }
+
+    private static ResilienceProperties hedging(long delayMillis) {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setDelayMillis(delayMillis);
+        return properties;
+    }
+
     @Test
     void createEmployee_returnsCreatedEmployee() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -213,7 +400,7 @@ public class ApiClientTest {
             apiClient.getAllEmployees();
         });
 
-        assertThat(ex.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
         assertThat(ex.getMessage()).contains("parsing JSON");
     }
 
@@ -242,4 +429,277 @@ public class ApiClientTest {
 
         assertThat(ex.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @Test
+    void getAllEmployeesAsync_emitsEmployeesList() throws Exception {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(employee(UUID.randomUUID().toString(), "Alice", 1000, "Worker", 35, "test1@gmail.com")));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json"));
+
+        List<Employee> result = apiClient.getAllEmployeesAsync().block().getData();
+        assertThat(result).extracting(Employee::getName).containsExactly("Alice");
+    }
+
+    @Test
+    void getEmployeeByIdAsync_signalsMappedError() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).setBody("Too Many Requests"));
+
+        EmployeeApiException ex = assertThrows(EmployeeApiException.class, () -> apiClient
+                .getEmployeeByIdAsync(UUID.randomUUID().toString())
+                .block());
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void streamAllEmployees_emitsEmployees() throws Exception {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(
+                employee(UUID.randomUUID().toString(), "Alice", 1000, "Worker", 35, "test1@gmail.com"),
+                employee(UUID.randomUUID().toString(), "Bob", 1500, "Worker", 35, "test2@gmail.com")));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json"));
+
+        List<Employee> result = apiClient.streamAllEmployees().collectList().block();
+        assertThat(result).extracting(Employee::getName).containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    void streamAllEmployees_handlesJsonProcessingException() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("INVALID_JSON"));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class,
+                () -> apiClient.streamAllEmployees().collectList().block());
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(ex.getMessage()).contains("parsing JSON");
+    }
+
+    private String pageJson(String nextCursor, Employee... items) throws JsonProcessingException {
+        EmployeePageDTO page = new EmployeePageDTO();
+        page.setItems(List.of(items));
+        page.setNextCursor(nextCursor);
+        EmployeeDataDTO<EmployeePageDTO> dto = new EmployeeDataDTO<>();
+        dto.setData(page);
+        return toJson(dto);
+    }
+
+    @Test
+    void pageAllEmployees_followsCursorsUntilLastPage() throws Exception {
+        Employee alice = employee("1", "Alice", 1000, "Worker", 35, "test1@gmail.com");
+        Employee bob = employee("2", "Bob", 1500, "Worker", 35, "test2@gmail.com");
+        Employee carol = employee("3", "Carol", 2000, "Worker", 35, "test3@gmail.com");
+        mockWebServer.enqueue(
+                new MockResponse().setBody(pageJson("c1", alice, bob)).addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(
+                new MockResponse().setBody(pageJson(null, carol)).addHeader("Content-Type", "application/json"));
+
+        List<Employee> result = apiClient.pageAllEmployees(2).collectList().block();
+
+        assertThat(result).extracting(Employee::getName).containsExactly("Alice", "Bob", "Carol");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/api/v1/employee/page?limit=2");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/api/v1/employee/page?limit=2&cursor=c1");
+    }
+
+    @Test
+    void pageAllEmployees_isLazyAndStopsOnCancel() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(pageJson("c1", employee("1", "Alice", 1000, "Worker", 35, "test1@gmail.com")))
+                .addHeader("Content-Type", "application/json"));
+
+        Flux<Employee> pages = apiClient.pageAllEmployees(1);
+        assertThat(mockWebServer.getRequestCount()).isZero();
+
+        assertThat(pages.take(1).collectList().block()).hasSize(1);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployeePageAsync_mapsRejectedCursor() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody("Cursor no longer valid"));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class,
+                () -> apiClient.getEmployeePageAsync("stale", 10).block());
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getEmployeeByIdAsync_concurrentCallsForSameIdShareOneRequest() throws Exception {
+        String id = UUID.randomUUID().toString();
+        EmployeeDataDTO<Employee> dto = new EmployeeDataDTO<>();
+        dto.setData(employee(id, "Alice", 1000, "Worker", 35, "test@gmail.com"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(toJson(dto))
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        List<EmployeeDataDTO<Employee>> results = Flux.merge(
+                        apiClient.getEmployeeByIdAsync(id),
+                        apiClient.getEmployeeByIdAsync(id),
+                        apiClient.getEmployeeByIdAsync(id))
+                .collectList()
+                .block();
+
+        assertThat(results)
+                .hasSize(3)
+                .allSatisfy(result -> assertThat(result.getData().getName()).isEqualTo("Alice"));
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllEmployeesAsync_sequentialCallsAreNotShared() throws Exception {
+        EmployeeDataDTO<List<Employee>> dto = new EmployeeDataDTO<>();
+        dto.setData(List.of(employee("1", "Alice", 1000, "Worker", 35, "test1@gmail.com")));
+        mockWebServer.enqueue(new MockResponse().setBody(toJson(dto)).addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setBody(toJson(dto)).addHeader("Content-Type", "application/json"));
+
+        apiClient.getAllEmployeesAsync().block();
+        apiClient.getAllEmployeesAsync().block();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createEmployees_postsBatchAndReturnsPerItemResults() throws Exception {
+        String body =
+                "{\"data\":[{\"index\":0,\"status\":\"CREATED\",\"data\":{\"id\":\"1\",\"employee_name\":\"Alice\"}},"
+                        + "{\"index\":1,\"status\":\"INVALID\",\"error\":\"age must be less than or equal to 75\"}]}";
+        mockWebServer.enqueue(new MockResponse().setBody(body).addHeader("Content-Type", "application/json"));
+
+        List<BatchItemResult<Employee>> results = apiClient.createEmployees(List.of(
+                new EmployeeCreateRequest("Alice", 1000, 30, "Worker", "a@company.com"),
+                new EmployeeCreateRequest("Bob", 1000, 90, "Worker", "b@company.com")));
+
+        assertThat(results)
+                .extracting(BatchItemResult::getStatus)
+                .containsExactly(BatchItemResult.Status.CREATED, BatchItemResult.Status.INVALID);
+        assertThat(results.get(0).getData().getName()).isEqualTo("Alice");
+        var request = mockWebServer.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getPath()).isEqualTo("/api/v1/employee/batch");
+    }
+
+    @Test
+    void deleteEmployeesById_splitsIntoChunksAndOffsetsIndexes() throws Exception {
+        List<String> ids = IntStream.range(0, ApiClient.BATCH_CHUNK_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .toList();
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(batchJson(ApiClient.BATCH_CHUNK_SIZE, "NOT_FOUND"))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(
+                new MockResponse().setBody(batchJson(1, "DELETED")).addHeader("Content-Type", "application/json"));
+
+        List<BatchItemResult<Employee>> results = apiClient.deleteEmployeesById(ids);
+
+        assertThat(results).hasSize(ids.size());
+        assertThat(results.get(ApiClient.BATCH_CHUNK_SIZE).getIndex()).isEqualTo(ApiClient.BATCH_CHUNK_SIZE);
+        assertThat(results.get(ApiClient.BATCH_CHUNK_SIZE).getStatus()).isEqualTo(BatchItemResult.Status.DELETED);
+        assertThat(mockWebServer.takeRequest().getMethod()).isEqualTo("DELETE");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteEmployeesById_reportsLaterChunkFailuresPerItem() throws Exception {
+        List<String> ids = IntStream.range(0, ApiClient.BATCH_CHUNK_SIZE + 2)
+                .mapToObj(String::valueOf)
+                .toList();
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(batchJson(ApiClient.BATCH_CHUNK_SIZE, "DELETED"))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+
+        List<BatchItemResult<Employee>> results = apiClient.deleteEmployeesById(ids);
+
+        assertThat(results).hasSize(ids.size());
+        assertThat(results.subList(ApiClient.BATCH_CHUNK_SIZE, ids.size()))
+                .extracting(BatchItemResult::getStatus, BatchItemResult::getIndex)
+                .containsExactly(
+                        tuple(BatchItemResult.Status.FAILED, ApiClient.BATCH_CHUNK_SIZE),
+                        tuple(BatchItemResult.Status.FAILED, ApiClient.BATCH_CHUNK_SIZE + 1));
+    }
+
+    @Test
+    void deleteEmployeesById_stopsSendingAfterAThrottledChunk() {
+        List<String> ids = IntStream.range(0, 2 * ApiClient.BATCH_CHUNK_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .toList();
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(batchJson(ApiClient.BATCH_CHUNK_SIZE, "DELETED"))
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+        mockWebServer.enqueue(
+                new MockResponse().setBody(batchJson(1, "DELETED")).addHeader("Content-Type", "application/json"));
+
+        List<BatchItemResult<Employee>> results = apiClient.deleteEmployeesById(ids);
+
+        assertThat(results).hasSize(ids.size());
+        assertThat(results.subList(ApiClient.BATCH_CHUNK_SIZE, ids.size()))
+                .extracting(BatchItemResult::getStatus)
+                .containsOnly(BatchItemResult.Status.FAILED);
+        assertThat(results.get(ids.size() - 1).getIndex()).isEqualTo(ids.size() - 1);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createEmployees_propagatesFailureOfFirstChunk() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class,
+                () -> apiClient.createEmployees(
+                        List.of(new EmployeeCreateRequest("Alice", 1000, 30, "Worker", "a@company.com"))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private String batchJson(int size, String status) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> "{\"index\":" + i + ",\"status\":\"" + status + "\"}")
+                .collect(Collectors.joining(",", "{\"data\":[", "]}"));
+    }
+
+    @Test
+    void deleteEmployeeById_deletesInOneRequest() throws Exception {
+        EmployeeDataDTO<Employee> dto = new EmployeeDataDTO<>();
+        dto.setData(employee("1", "Alice", 1000, "Worker", 35, "test1@gmail.com"));
+        mockWebServer.enqueue(new MockResponse().setBody(toJson(dto)).addHeader("Content-Type", "application/json"));
+
+        Employee deleted = apiClient.deleteEmployeeById("1");
+
+        assertThat(deleted.getName()).isEqualTo("Alice");
+        var request = mockWebServer.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("DELETE");
+        assertThat(request.getPath()).isEqualTo("/api/v1/employee/1");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteEmployeeById_returnsNullWhenNotFound() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody("{\"status\":\"Successfully processed request.\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        assertThat(apiClient.deleteEmployeeById("missing")).isNull();
+    }
+
+    @Test
+    void deleteEmployeeById_mapsServerError() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        EmployeeApiException ex = assertThrows(EmployeeApiException.class, () -> apiClient.deleteEmployeeById("1"));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
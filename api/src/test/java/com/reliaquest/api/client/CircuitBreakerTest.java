@@ -0,0 +1,134 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.exception.UpstreamRejectedException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private ResilienceProperties.CircuitBreaker properties;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResilienceProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDurationMillis(1000);
+        properties.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker("getEmployeeById", properties, clock::get);
+    }
+
+    @Test
+    void staysClosedUntilMinimumCallsAreRecorded() {
+        fail(3);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void opensOnFailureRateOverTheSlidingWindow() {
+        fail(1);
+        succeed(3);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // The oldest outcome (the failure) drops out of the window, then two more failures reach 50%.
+        succeed(1);
+        fail(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void openBreakerRejectsWithRetryAfterUntilOpenDurationPasses() {
+        fail(4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+
+        UpstreamRejectedException ex = assertThrows(UpstreamRejectedException.class, breaker::acquire);
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(600));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(breaker.acquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void halfOpenClosesAfterAllProbesSucceed() {
+        fail(4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        boolean first = breaker.acquire();
+        boolean second = breaker.acquire();
+        assertThrows(UpstreamRejectedException.class, breaker::acquire);
+
+        breaker.onSuccess(first);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(second);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.acquire()).isFalse();
+    }
+
+    @Test
+    void failedProbeReopens() {
+        fail(4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThrows(UpstreamRejectedException.class, breaker::acquire);
+    }
+
+    @Test
+    void ignoredProbeFreesItsSlot() {
+        properties.setHalfOpenCalls(1);
+        fail(4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        breaker.onIgnored(breaker.acquire());
+
+        assertThat(breaker.acquire()).isTrue();
+    }
+
+    @Test
+    void lateOutcomesOfCallsAdmittedWhileClosedDoNotAffectAnOpenBreaker() {
+        boolean straggler = breaker.acquire();
+        fail(4);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        boolean probe = breaker.acquire();
+
+        breaker.onSuccess(straggler);
+        breaker.onFailure(straggler);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(probe);
+        breaker.onSuccess(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.onFailure(breaker.acquire());
+        }
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.onSuccess(breaker.acquire());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+
+class EmployeeJsonDecoderTest {
+
+    private static final String ROSTER =
+            """
+            {"data":[
+              {"id":"1","employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61,
+               "employee_title":"Vice Chair","employee_email":"tnixon@company.com","extra":{"nested":[1,2]}},
+              {"id":"2","employee_name":"Bill Bob","employee_salary":89750,"employee_age":24,
+               "employee_title":"Documentation Engineer","employee_email":"billBob@company.com"}
+            ],"status":"Successfully processed request."}""";
+
+    private final EmployeeJsonDecoder decoder = new EmployeeJsonDecoder(new ObjectMapper(), -1);
+
+    /** Splits the payload into tiny buffers so tokens straddle buffer boundaries. */
+    private Flux<DataBuffer> chunked(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, offset, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    @Test
+    void decode_bindsWholePayload() {
+        EmployeeDataDTO<List<Employee>> dto = decoder.decode(
+                        chunked(ROSTER, 16), new TypeReference<EmployeeDataDTO<List<Employee>>>() {})
+                .block();
+
+        assertThat(dto.getStatus()).isEqualTo("Successfully processed request.");
+        assertThat(dto.getData()).extracting(Employee::getName).containsExactly("Tiger Nixon", "Bill Bob");
+    }
+
+    @Test
+    void decode_failsWhenBodyExceedsLimit() {
+        EmployeeJsonDecoder bounded = new EmployeeJsonDecoder(new ObjectMapper(), 64);
+
+        EmployeeApiException ex = assertThrows(EmployeeApiException.class, () -> bounded.decode(
+                        chunked(ROSTER, 16), new TypeReference<EmployeeDataDTO<List<Employee>>>() {})
+                .block());
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void decodeElements_emitsEachDataElement() {
+        List<Employee> employees = decoder.decodeElements(chunked(ROSTER, 7), Employee.class)
+                .collectList()
+                .block();
+
+        assertThat(employees).extracting(Employee::getId).containsExactly("1", "2");
+        assertThat(employees.get(0).getSalary()).isEqualTo(320800);
+        assertThat(employees.get(1).getEmail()).isEqualTo("billBob@company.com");
+    }
+
+    @Test
+    void decodeElements_emitsNothingForEmptyOrMissingData() {
+        assertThat(decoder.decodeElements(chunked("{\"data\":[],\"status\":\"ok\"}", 5), Employee.class)
+                        .collectList()
+                        .block())
+                .isEmpty();
+        assertThat(decoder.decodeElements(chunked("{\"status\":\"ok\"}", 5), Employee.class)
+                        .collectList()
+                        .block())
+                .isEmpty();
+    }
+
+    @Test
+    void decodeList_bindsPayloadLargerThanLimit() {
+        EmployeeJsonDecoder bounded = new EmployeeJsonDecoder(new ObjectMapper(), 64);
+
+        EmployeeDataDTO<List<Employee>> dto =
+                bounded.decodeList(chunked(ROSTER, 16), Employee.class).block();
+
+        assertThat(dto.getStatus()).isEqualTo("Successfully processed request.");
+        assertThat(dto.getData()).extracting(Employee::getName).containsExactly("Tiger Nixon", "Bill Bob");
+    }
+
+    @Test
+    void decodeList_leavesDataNullWithoutDataArray() {
+        EmployeeDataDTO<List<Employee>> dto = decoder.decodeList(chunked("{\"status\":\"ok\"}", 5), Employee.class)
+                .block();
+
+        assertThat(dto.getData()).isNull();
+        assertThat(dto.getStatus()).isEqualTo("ok");
+        assertThat(decoder.decodeList(chunked("{\"data\":[]}", 5), Employee.class)
+                        .block()
+                        .getData())
+                .isEmpty();
+    }
+
+    @Test
+    void decodeElements_failsOnMalformedJson() {
+        RuntimeException ex = assertThrows(
+                RuntimeException.class, () -> decoder.decodeElements(chunked("INVALID_JSON", 4), Employee.class)
+                        .collectList()
+                        .block());
+
+        assertThat(ex).hasRootCauseInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void decodeElements_reportsJsonMalformedAtEndOfInputAsBadGateway() {
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class, () -> decoder.decodeElements(chunked("INVALID_JSON", 64), Employee.class)
+                        .collectList()
+                        .block());
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(ex).hasRootCauseInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void decodeElements_failsOnTruncatedJson() {
+        assertThrows(RuntimeException.class, () -> decoder.decodeElements(
+                        chunked(ROSTER.substring(0, ROSTER.length() / 2), 8), Employee.class)
+                .collectList()
+                .block());
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.server.DeadlineFilter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneCall() {
+        Sinks.One<String> upstream = Sinks.one();
+        Mono<String> first = singleFlight.execute("roster", () -> call(upstream));
+        Mono<String> second = singleFlight.execute("roster", () -> call(upstream));
+
+        AtomicReference<String> firstResult = new AtomicReference<>();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+        first.subscribe(firstResult::set);
+        second.subscribe(secondResult::set);
+        upstream.tryEmitValue("result");
+
+        assertThat(firstResult).hasValue("result");
+        assertThat(secondResult).hasValue("result");
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.joinedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void callersAfterCompletionStartAFreshCall() {
+        assertThat(singleFlight
+                        .execute("roster", () -> call(Mono.just("first")))
+                        .block())
+                .isEqualTo("first");
+        assertThat(singleFlight
+                        .execute("roster", () -> call(Mono.just("second")))
+                        .block())
+                .isEqualTo("second");
+
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.joinedCount()).isZero();
+    }
+
+    @Test
+    void errorsAreSharedAndForgotten() {
+        Sinks.One<String> upstream = Sinks.one();
+        Mono<String> first = singleFlight.execute("id", () -> call(upstream));
+        Mono<String> second = singleFlight.execute("id", () -> call(upstream));
+
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicReference<Throwable> secondError = new AtomicReference<>();
+        first.subscribe(value -> {}, firstError::set);
+        second.subscribe(value -> {}, secondError::set);
+        upstream.tryEmitError(new IllegalStateException("boom"));
+
+        assertThat(firstError.get()).hasMessage("boom");
+        assertThat(secondError.get()).isSameAs(firstError.get());
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotShare() {
+        Sinks.One<String> a = Sinks.one();
+        Sinks.One<String> b = Sinks.one();
+
+        Disposable first = singleFlight.execute("a", () -> call(a)).subscribe();
+        Disposable second = singleFlight.execute("b", () -> call(b)).subscribe();
+
+        assertThat(calls).hasValue(2);
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    void callIsCancelledOnlyWhenEveryCallerCancels() {
+        AtomicInteger cancelled = new AtomicInteger();
+        Mono<String> never = Mono.<String>never().doOnCancel(cancelled::incrementAndGet);
+
+        Disposable first = singleFlight.execute("id", () -> call(never)).subscribe();
+        Disposable second = singleFlight.execute("id", () -> call(never)).subscribe();
+
+        first.dispose();
+        assertThat(cancelled).hasValue(0);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        second.dispose();
+        assertThat(cancelled).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void callerWithALaterDeadlineStartsItsOwnCallForLaterCallersToJoin() {
+        Sinks.One<String> tight = Sinks.one();
+        Sinks.One<String> loose = Sinks.one();
+        AtomicReference<String> sooner = new AtomicReference<>();
+        AtomicReference<String> later = new AtomicReference<>();
+        AtomicReference<String> between = new AtomicReference<>();
+
+        withDeadline(1_000, () -> singleFlight.execute("id", () -> call(tight)).subscribe(sooner::set));
+        withDeadline(3_000, () -> singleFlight.execute("id", () -> call(loose)).subscribe(later::set));
+        withDeadline(2_000, () -> singleFlight
+                .execute("id", () -> call(Mono.just("unused")))
+                .subscribe(between::set));
+        tight.tryEmitValue("tight");
+        loose.tryEmitValue("loose");
+
+        assertThat(sooner).hasValue("tight");
+        assertThat(later).hasValue("loose");
+        assertThat(between).hasValue("loose");
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.joinedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void callerWithADeadlineJoinsACallWithoutOne() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicReference<String> joined = new AtomicReference<>();
+
+        Disposable leader = singleFlight.execute("id", () -> call(upstream)).subscribe();
+        withDeadline(
+                1_000, () -> singleFlight.execute("id", () -> call(upstream)).subscribe(joined::set));
+        upstream.tryEmitValue("result");
+
+        assertThat(joined).hasValue("result");
+        assertThat(calls).hasValue(1);
+        leader.dispose();
+    }
+
+    private static void withDeadline(long deadline, Runnable runnable) {
+        MDC.put(DeadlineFilter.MDC_DEADLINE_KEY, Long.toString(deadline));
+        try {
+            runnable.run();
+        } finally {
+            MDC.remove(DeadlineFilter.MDC_DEADLINE_KEY);
+        }
+    }
+
+    private Mono<String> call(Sinks.One<String> upstream) {
+        return call(upstream.asMono());
+    }
+
+    private Mono<String> call(Mono<String> upstream) {
+        calls.incrementAndGet();
+        return upstream;
+    }
+}
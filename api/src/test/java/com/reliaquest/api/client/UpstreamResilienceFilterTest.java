@@ -0,0 +1,249 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.config.ResilienceProperties;
+import com.reliaquest.api.exception.UpstreamRejectedException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.server.DeadlineFilter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class UpstreamResilienceFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+    private ResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResilienceProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(2);
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        properties.getBulkhead().setMaxConcurrentReads(1);
+        properties.getBulkhead().setMaxConcurrentWrites(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void breakerOpensPerOperationAfterFailures() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        ExchangeFunction failing = respondWith(HttpStatus.SERVICE_UNAVAILABLE);
+
+        send(filter, request(HttpMethod.GET, "getEmployeeById"), failing);
+        send(filter, request(HttpMethod.GET, "getEmployeeById"), respondWith(HttpStatus.TOO_MANY_REQUESTS));
+
+        UpstreamRejectedException ex = assertThrows(
+                UpstreamRejectedException.class,
+                () -> send(filter, request(HttpMethod.GET, "getEmployeeById"), respondWith(HttpStatus.OK)));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(ex.getRetryAfter()).isPositive();
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(filter.circuitState("getEmployeeById")).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(send(filter, request(HttpMethod.GET, "getAllEmployees"), respondWith(HttpStatus.OK))
+                        .statusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(filter.getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsAndLimiterRejectionsDoNotOpenTheBreaker() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+
+        send(filter, request(HttpMethod.GET, "getEmployeeById"), respondWith(HttpStatus.NOT_FOUND));
+        assertThrows(
+                UpstreamThrottledException.class,
+                () -> send(
+                        filter,
+                        request(HttpMethod.GET, "getEmployeeById"),
+                        req -> Mono.error(new UpstreamThrottledException("paced", Duration.ofSeconds(1)))));
+        assertThrows(
+                UpstreamThrottledException.class,
+                () -> send(
+                        filter,
+                        request(HttpMethod.GET, "getEmployeeById"),
+                        req -> Mono.error(new UpstreamThrottledException("paced", Duration.ofSeconds(1)))));
+
+        assertThat(filter.circuitState("getEmployeeById")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void bulkheadsBoundReadsAndWritesSeparately() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        ExchangeFunction hanging = req -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.never();
+        };
+
+        Disposable read = filter.filter(request(HttpMethod.GET, "getEmployeeById"), hanging)
+                .subscribe();
+
+        UpstreamRejectedException ex = assertThrows(
+                UpstreamRejectedException.class,
+                () -> send(filter, request(HttpMethod.GET, "getAllEmployees"), respondWith(HttpStatus.OK)));
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(send(filter, request(HttpMethod.POST, "createEmployee"), respondWith(HttpStatus.OK))
+                        .statusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        read.dispose();
+        assertThat(send(filter, request(HttpMethod.GET, "getAllEmployees"), respondWith(HttpStatus.OK))
+                        .statusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void slowCallsTimeOutAndCountAsFailures() {
+        properties.setReadTimeoutMillis(50);
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        ExchangeFunction hanging = req -> Mono.never();
+
+        for (int i = 0; i < 2; i++) {
+            UpstreamRejectedException ex = assertThrows(
+                    UpstreamRejectedException.class,
+                    () -> send(filter, request(HttpMethod.GET, "getEmployeeById"), hanging));
+            assertThat(ex.getStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        }
+
+        assertThat(filter.circuitState("getEmployeeById")).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void stalledBodyTimesOutAndCountsAsFailure() {
+        properties.setReadTimeoutMillis(50);
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        ExchangeFunction stalling = req -> Mono.just(
+                ClientResponse.create(HttpStatus.OK).body(Flux.never()).build());
+
+        for (int i = 0; i < 2; i++) {
+            ClientResponse response = filter.filter(request(HttpMethod.GET, "getEmployeeById"), stalling)
+                    .block();
+            UpstreamRejectedException ex =
+                    assertThrows(UpstreamRejectedException.class, () -> response.bodyToMono(String.class)
+                            .block());
+            assertThat(ex.getStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        }
+
+        assertThat(filter.circuitState("getEmployeeById")).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void bulkheadPermitIsHeldUntilTheBodyIsRead() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        ExchangeFunction streaming = req -> Mono.just(
+                ClientResponse.create(HttpStatus.OK).body(body.asFlux()).build());
+
+        ClientResponse first = filter.filter(request(HttpMethod.GET, "getAllEmployees"), streaming)
+                .block();
+        Mono<String> reading = first.bodyToMono(String.class).cache();
+        reading.subscribe();
+
+        assertThrows(
+                UpstreamRejectedException.class,
+                () -> send(filter, request(HttpMethod.GET, "getAllEmployees"), respondWith(HttpStatus.OK)));
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("[]".getBytes(StandardCharsets.UTF_8)));
+        body.tryEmitComplete();
+        assertThat(reading.block()).isEqualTo("[]");
+        assertThat(send(filter, request(HttpMethod.GET, "getAllEmployees"), respondWith(HttpStatus.OK))
+                        .statusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void callerDeadlineBoundsTheCallAndIsPassedOn() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        MDC.put(DeadlineFilter.MDC_DEADLINE_KEY, String.valueOf(clock.get() + 1200));
+        ClientRequest request = request(HttpMethod.GET, "getEmployeeById");
+
+        send(filter, request, respondWith(HttpStatus.OK));
+
+        assertThat(sent.get().headers().getFirst(DeadlineFilter.DEADLINE_HEADER))
+                .isEqualTo("1200");
+    }
+
+    @Test
+    void expiredDeadlineFailsWithoutCalling() {
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+        MDC.put(DeadlineFilter.MDC_DEADLINE_KEY, String.valueOf(clock.get()));
+        ClientRequest request = request(HttpMethod.GET, "getEmployeeById");
+
+        UpstreamRejectedException ex =
+                assertThrows(UpstreamRejectedException.class, () -> send(filter, request, respondWith(HttpStatus.OK)));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(upstreamCalls).hasValue(0);
+    }
+
+    @Test
+    void withoutDeadlineTheConfiguredTimeoutIsPassedOn() {
+        properties.setWriteTimeoutMillis(7000);
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+
+        send(filter, request(HttpMethod.DELETE, "deleteEmployeeById"), respondWith(HttpStatus.OK));
+
+        assertThat(sent.get().headers().getFirst(DeadlineFilter.DEADLINE_HEADER))
+                .isEqualTo("7000");
+    }
+
+    @Test
+    void disabledFilterPassesEverythingThrough() {
+        properties.setEnabled(false);
+        UpstreamResilienceFilter filter = new UpstreamResilienceFilter(properties, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            send(filter, request(HttpMethod.GET, "getEmployeeById"), respondWith(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    private static ClientRequest request(HttpMethod method, String operation) {
+        return ClientRequest.create(method, URI.create("http://localhost/api/v1/employee"))
+                .attributes(UpstreamResilienceFilter.operation(operation))
+                .build();
+    }
+
+    /** Sends a request and, like WebClient does for every response, reads its body. */
+    private ClientResponse send(UpstreamResilienceFilter filter, ClientRequest request, ExchangeFunction upstream) {
+        return filter.filter(request, upstream)
+                .flatMap(response -> response.releaseBody().thenReturn(response))
+                .block();
+    }
+
+    private ExchangeFunction respondWith(HttpStatus status) {
+        return req -> {
+            upstreamCalls.incrementAndGet();
+            sent.set(req);
+            return Mono.just(ClientResponse.create(status).build());
+        };
+    }
+}
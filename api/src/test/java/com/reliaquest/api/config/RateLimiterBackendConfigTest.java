@@ -0,0 +1,52 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.web.LeasedRateLimiterBackend;
+import com.reliaquest.api.web.LocalRateLimiterBackend;
+import com.reliaquest.api.web.PermitStore;
+import com.reliaquest.api.web.RateLimiterBackend;
+import com.reliaquest.api.web.RedisPermitStore;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+class RateLimiterBackendConfigTest {
+
+    @Nested
+    @SpringBootTest
+    class LocalBackend {
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Test
+        void setsUpNoRedis() {
+            assertThat(context.getBean(RateLimiterBackend.class)).isInstanceOf(LocalRateLimiterBackend.class);
+            assertThat(context.getBeanNamesForType(PermitStore.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(RedisConnectionFactory.class))
+                    .isEmpty();
+            assertThat(context.containsBean("redisHealthContributor")).isFalse();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = "rateLimiter.backend=redis")
+    class RedisBackend {
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Test
+        void importsRedisAutoConfiguration() {
+            assertThat(context.getBean(RateLimiterBackend.class)).isInstanceOf(LeasedRateLimiterBackend.class);
+            assertThat(context.getBean(PermitStore.class)).isInstanceOf(RedisPermitStore.class);
+            assertThat(context.getBeanNamesForType(RedisConnectionFactory.class))
+                    .hasSize(1);
+            assertThat(context.containsBean("redisHealthContributor")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+
+class RestClientConfigTest {
+
+    @Test
+    void uriTagCollapsesEmployeeIds() {
+        assertThat(RestClientConfig.uriTag("/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"))
+                .isEqualTo("/api/v1/employee/{id}");
+        assertThat(RestClientConfig.uriTag("/api/v1/employee")).isEqualTo("/api/v1/employee");
+        assertThat(RestClientConfig.uriTag("/api/v1/employee/batch")).isEqualTo("/api/v1/employee/batch");
+    }
+
+    @Test
+    void protocolsMapToReactorNetty() {
+        assertThat(RestClientConfig.protocols(List.of(HttpClientProperties.HttpProtocol.H2C)))
+                .containsExactly(HttpProtocol.H2C);
+        assertThat(RestClientConfig.protocols(List.of(
+                        HttpClientProperties.HttpProtocol.HTTP11,
+                        HttpClientProperties.HttpProtocol.H2C,
+                        HttpClientProperties.HttpProtocol.H2C)))
+                .containsExactly(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        assertThrows(IllegalStateException.class, () -> RestClientConfig.protocols(List.of()));
+    }
+}
@@ -1,11 +1,13 @@
 package com.reliaquest.api.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.BatchItemResult;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -66,6 +69,44 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_name").value("Bob"));
     }
 
+    @Test
+    void getAllEmployees_streamsNdjson_whenRequested() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee1, employee2));
+
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], Employee.class)).isEqualTo(employee1);
+        assertThat(objectMapper.readValue(lines[1], Employee.class)).isEqualTo(employee2);
+    }
+
+    @Test
+    void streamAllEmployees_serialisesLikeTheJsonEndpoint() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee1));
+
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String streamed =
+                mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString();
+        String json = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat("[" + streamed.strip() + "]").isEqualTo(json);
+    }
+
     @Test
     void getEmployeesByNameSearch_shouldReturnMatching() throws Exception {
         when(employeeService.searchEmployeesByName("Ali")).thenReturn(List.of(employee1));
@@ -131,4 +172,38 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("Deleted"));
     }
+
+    @Test
+    void createEmployees_shouldReturnPerItemResults() throws Exception {
+        EmployeeCreateRequest req = new EmployeeCreateRequest("New Emp", 5000, 25, "Engineer", "abc");
+        when(employeeService.createEmployees(any()))
+                .thenReturn(List.of(
+                        new BatchItemResult<>(0, BatchItemResult.Status.CREATED, employee1, null),
+                        new BatchItemResult<>(1, BatchItemResult.Status.INVALID, null, "age must be at least 16")));
+
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(req, req))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].data.employee_name").value("Alice"))
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].data").doesNotExist());
+    }
+
+    @Test
+    void deleteEmployees_shouldRouteBatchBeforeIdPath() throws Exception {
+        when(employeeService.deleteEmployeesById(List.of(id1, id2)))
+                .thenReturn(List.of(
+                        new BatchItemResult<>(0, BatchItemResult.Status.DELETED, employee1, null),
+                        new BatchItemResult<>(1, BatchItemResult.Status.NOT_FOUND, null, null)));
+
+        mockMvc.perform(delete("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(id1, id2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+        verify(employeeService, never()).deleteEmployeeById(any());
+    }
 }
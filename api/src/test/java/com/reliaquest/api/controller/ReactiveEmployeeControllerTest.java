@@ -0,0 +1,130 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(properties = "executionMode=reactive")
+@AutoConfigureMockMvc
+class ReactiveEmployeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String id = UUID.randomUUID().toString();
+    private final Employee employee = new Employee(id, "Alice", 1000, 23, "Engineer", "abc@gmail.com");
+
+    @Test
+    void getAllEmployees_shouldReturnList() throws Exception {
+        when(employeeService.getAllEmployeesAsync()).thenReturn(Mono.just(List.of(employee)));
+
+        MvcResult result = mockMvc.perform(get("/api/employees"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("Alice"));
+    }
+
+    @Test
+    void getAllEmployees_streamsNdjson_whenRequested() throws Exception {
+        when(employeeService.getAllEmployeesAsync()).thenReturn(Mono.just(List.of(employee, employee)));
+
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.split("\n")).hasSize(2).allSatisfy(line -> assertThat(line)
+                .contains("\"employee_name\":\"Alice\""));
+    }
+
+    @Test
+    void getEmployeeById_shouldReturnEmployee() throws Exception {
+        when(employeeService.getEmployeeByIdAsync(id)).thenReturn(Mono.just(employee));
+
+        MvcResult result = mockMvc.perform(get("/api/employees/" + id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("Alice"));
+    }
+
+    @Test
+    void getHighestSalary_shouldReturnInt() throws Exception {
+        when(employeeService.getHighestSalaryAsync()).thenReturn(Mono.just(150000));
+
+        MvcResult result = mockMvc.perform(get("/api/employees/highestSalary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("150000"));
+    }
+
+    @Test
+    void createEmployee_shouldReturnCreatedEmployee() throws Exception {
+        EmployeeCreateRequest req = new EmployeeCreateRequest("Alice", 1000, 23, "Engineer", "abc@gmail.com");
+        when(employeeService.createEmployeeAsync(any())).thenReturn(Mono.just(employee));
+
+        MvcResult result = mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee_name").value("Alice"));
+    }
+
+    @Test
+    void upstreamError_isMappedByExceptionHandler() throws Exception {
+        when(employeeService.getTop10HighestEarningEmployeeNamesAsync())
+                .thenReturn(Mono.error(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS)));
+
+        MvcResult result = mockMvc.perform(get("/api/employees/topTenHighestEarningEmployeeNames"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Too many requests"));
+    }
+}
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.response.ApiResponse;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -57,6 +59,20 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getData()).isNull();
     }
 
+    @Test
+    void handleUpstreamRejectedException_setsRetryAfterOnlyWhenKnown() {
+        ResponseEntity<ApiResponse<Object>> open = exceptionHandler.handleUpstreamRejectedException(
+                new UpstreamRejectedException("Circuit open", HttpStatus.SERVICE_UNAVAILABLE, Duration.ofMillis(1500)));
+        ResponseEntity<ApiResponse<Object>> timedOut = exceptionHandler.handleUpstreamRejectedException(
+                new UpstreamRejectedException("Timed out", HttpStatus.GATEWAY_TIMEOUT, null));
+
+        assertThat(open.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(open.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(timedOut.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(timedOut.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+        assertThat(timedOut.getBody().getMessage()).isEqualTo("Timed out");
+    }
+
     @Test
     void handleGenericException_returnsInternalServerError() {
         Exception ex = new Exception("Unexpected error");
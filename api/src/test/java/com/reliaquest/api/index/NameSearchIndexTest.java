@@ -0,0 +1,114 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    private Employee employee(String id, String name) {
+        return new Employee(id, name, 1000, 30, "Engineer", id + "@company.com");
+    }
+
+    private final List<Employee> roster = List.of(
+            employee("1", "Tiger Nixon"),
+            employee("2", "Garrett Winters"),
+            employee("3", "José Álvarez"),
+            employee("4", "Ashton Cox"),
+            employee("5", null));
+
+    @Test
+    void search_matchesSubstringCaseInsensitively() {
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        assertThat(index.search("NIX")).extracting(Employee::getId).containsExactly("1");
+        assertThat(index.search("ter")).extracting(Employee::getId).containsExactly("2");
+        assertThat(index.search("on")).extracting(Employee::getId).containsExactly("1", "4");
+    }
+
+    @Test
+    void search_ignoresDiacritics() {
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        assertThat(index.search("jose alv")).extracting(Employee::getId).containsExactly("3");
+        assertThat(index.search("ÁLVAREZ")).extracting(Employee::getId).containsExactly("3");
+    }
+
+    @Test
+    void search_requiresContiguousMatch() {
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        // Both trigrams "tig" and "ger" exist in "tiger", but "tiger nixon" does not contain "tigger".
+        assertThat(index.search("tigger")).isEmpty();
+        assertThat(index.search("zzz")).isEmpty();
+    }
+
+    @Test
+    void withAddedAndRemoved_updateSearchResults() {
+        NameSearchIndex index = NameSearchIndex.build(roster);
+        Employee added = employee("6", "Nixon Junior");
+
+        index = index.withAdded(added);
+        assertThat(index.search("nixon")).extracting(Employee::getId).containsExactly("1", "6");
+
+        index = index.withRemoved(roster.get(0));
+        assertThat(index.search("nixon")).extracting(Employee::getId).containsExactly("6");
+        assertThat(index.search("ni")).extracting(Employee::getId).containsExactly("6");
+    }
+
+    @Test
+    void withAdded_branchesFromTheSameIndexIndependently() {
+        NameSearchIndex base = NameSearchIndex.build(roster);
+
+        NameSearchIndex left = base.withAdded(employee("6", "Nixon Left"));
+        NameSearchIndex right = base.withAdded(employee("7", "Nixon Right"));
+
+        assertThat(base.search("nixon")).extracting(Employee::getId).containsExactly("1");
+        assertThat(left.search("nixon")).extracting(Employee::getId).containsExactly("1", "6");
+        assertThat(right.search("nixon")).extracting(Employee::getId).containsExactly("1", "7");
+        assertThat(left.withAdded(employee("8", "Nixon Third")).search("nixon"))
+                .extracting(Employee::getId)
+                .containsExactly("1", "6", "8");
+    }
+
+    @Test
+    void withRemoved_rebuildsOnceTombstonesOutnumberLiveDocuments() {
+        NameSearchIndex index = NameSearchIndex.build(roster);
+        for (int i = 0; i < 4; i++) {
+            index = index.withRemoved(roster.get(i));
+        }
+
+        assertThat(index.search("nixon")).isEmpty();
+        assertThat(index.search("o")).isEmpty();
+        index = index.withAdded(employee("6", "Nixon Junior"));
+        assertThat(index.search("nix")).extracting(Employee::getId).containsExactly("6");
+    }
+
+    @Test
+    void search_matchesLinearScanOnRandomRoster() {
+        Random random = new Random(7);
+        String alphabet = "abcdeé ";
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0; j < 3 + random.nextInt(8); j++) {
+                name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            employees.add(employee(String.valueOf(i), name.toString()));
+        }
+        NameSearchIndex index = NameSearchIndex.build(employees);
+
+        for (String query : List.of("a", "ab", "abc", "bad", "e e", "cab", "dee")) {
+            List<Employee> expected = employees.stream()
+                    .filter(employee ->
+                            NameSearchIndex.normalize(employee.getName()).contains(query.toLowerCase(Locale.ROOT)))
+                    .toList();
+            assertThat(index.search(query)).as(query).containsExactlyElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PersistentSortedMapTest {
+
+    @Test
+    void matchesTreeMapUnderRandomWrites() {
+        Random random = new Random(3);
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.empty();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                map = map.without(key);
+                expected.remove(key);
+            } else {
+                map = map.with(key, "v" + i);
+                expected.put(key, "v" + i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        List<Map.Entry<Integer, String>> entries = new ArrayList<>();
+        map.forEach(entry -> entries.add(Map.entry(entry.getKey(), entry.getValue())));
+        assertThat(entries).containsExactlyElementsOf(expected.entrySet());
+        int rank = 0;
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+            assertThat(map.entryAt(rank++).getKey()).isEqualTo(entry.getKey());
+        }
+    }
+
+    @Test
+    void ofSortedBuildsASearchableTree() {
+        List<Integer> keys = IntStream.range(0, 1000).map(i -> i * 2).boxed().toList();
+        List<String> values = keys.stream().map(String::valueOf).toList();
+
+        PersistentSortedMap<Integer, String> map =
+                PersistentSortedMap.ofSorted(Comparator.naturalOrder(), keys, values);
+
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.get(998)).isEqualTo("998");
+        assertThat(map.containsKey(999)).isFalse();
+        Iterator<Map.Entry<Integer, String>> from = map.iteratorFrom(999);
+        assertThat(from.next().getKey()).isEqualTo(1000);
+        assertThat(from.next().getKey()).isEqualTo(1002);
+    }
+
+    @Test
+    void writesLeaveEarlierVersionsIntact() {
+        PersistentSortedMap<String, Integer> original =
+                PersistentSortedMap.<String, Integer>empty().with("a", 1).with("b", 2);
+
+        PersistentSortedMap<String, Integer> changed =
+                original.with("a", 10).without("b").with("c", 3);
+
+        assertThat(original.get("a")).isEqualTo(1);
+        assertThat(original.get("b")).isEqualTo(2);
+        assertThat(original.containsKey("c")).isFalse();
+        assertThat(changed.get("a")).isEqualTo(10);
+        assertThat(changed.containsKey("b")).isFalse();
+        assertThat(original.without("missing")).isSameAs(original);
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PersistentVectorTest {
+
+    @Test
+    void appendGrowsPastSeveralLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+        }
+
+        assertThat(vector.size()).isEqualTo(40_000);
+        assertThat(vector.get(0)).isZero();
+        assertThat(vector.get(1056)).isEqualTo(1056);
+        assertThat(vector.get(39_999)).isEqualTo(39_999);
+    }
+
+    @Test
+    void ofMatchesTheList() {
+        List<Integer> values = IntStream.range(0, 33_000).boxed().toList();
+
+        PersistentVector<Integer> vector = PersistentVector.of(values).append(33_000);
+
+        assertThat(vector.size()).isEqualTo(33_001);
+        for (int i = 0; i <= 33_000; i += 97) {
+            assertThat(vector.get(i)).isEqualTo(i);
+        }
+        assertThat(PersistentVector.of(List.of()).size()).isZero();
+    }
+
+    @Test
+    void writesLeaveEarlierVersionsIntact() {
+        PersistentVector<String> original = PersistentVector.of(new ArrayList<>(List.of("a", "b", "c")));
+
+        PersistentVector<String> changed = original.with(1, null).append("d");
+
+        assertThat(original.size()).isEqualTo(3);
+        assertThat(original.get(1)).isEqualTo("b");
+        assertThat(changed.get(1)).isNull();
+        assertThat(changed.get(3)).isEqualTo("d");
+        assertThatThrownBy(() -> original.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
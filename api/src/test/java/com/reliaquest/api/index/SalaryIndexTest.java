@@ -0,0 +1,110 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private Employee employee(String id, String name, Integer salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name + "@company.com");
+    }
+
+    @Test
+    void build_ordersBySalaryDescending() {
+        SalaryIndex index = SalaryIndex.build(
+                List.of(employee("1", "Low", 100), employee("2", "High", 900), employee("3", "Mid", 500)));
+
+        assertThat(index.highest()).hasValue(900);
+        assertThat(index.topNames()).containsExactly("High", "Mid", "Low");
+    }
+
+    @Test
+    void build_keepsRosterOrderForEqualSalaries() {
+        SalaryIndex index = SalaryIndex.build(
+                List.of(employee("1", "First", 500), employee("2", "Second", 500), employee("3", "Third", 500)));
+
+        assertThat(index.topNames()).containsExactly("First", "Second", "Third");
+    }
+
+    @Test
+    void build_limitsTopNamesAndSkipsMissingSalaries() {
+        List<Employee> roster = new ArrayList<>();
+        IntStream.rangeClosed(1, 12).forEach(i -> roster.add(employee(String.valueOf(i), "E" + i, i * 100)));
+        roster.add(employee("13", "NoSalary", null));
+
+        SalaryIndex index = SalaryIndex.build(roster);
+
+        assertThat(index.size()).isEqualTo(12);
+        assertThat(index.topNames())
+                .hasSize(SalaryIndex.TOP_K)
+                .startsWith("E12", "E11")
+                .doesNotContain("E1", "E2");
+    }
+
+    @Test
+    void build_emptyRoster() {
+        SalaryIndex index = SalaryIndex.build(List.of());
+
+        assertThat(index.highest()).isEmpty();
+        assertThat(index.topNames()).isEmpty();
+    }
+
+    @Test
+    void withAddedAndRemoved_matchFullRebuild() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        SalaryIndex index = SalaryIndex.build(roster);
+        for (int i = 0; i < 200; i++) {
+            Employee employee = employee(String.valueOf(i), "E" + i, random.nextInt(50) * 1000);
+            roster.add(employee);
+            index = index.withAdded(employee);
+        }
+        for (int i = 0; i < 150; i += 3) {
+            Employee removed = roster.remove(random.nextInt(roster.size()));
+            index = index.withRemoved(removed);
+        }
+
+        SalaryIndex rebuilt = SalaryIndex.build(roster);
+        assertThat(index.size()).isEqualTo(rebuilt.size());
+        assertThat(index.highest()).isEqualTo(rebuilt.highest());
+        assertThat(index.topNames()).isEqualTo(rebuilt.topNames());
+        assertThat(index.highest().getAsInt())
+                .isEqualTo(roster.stream()
+                        .max(Comparator.comparingInt(Employee::getSalary))
+                        .orElseThrow()
+                        .getSalary());
+    }
+
+    @Test
+    void withAddedAndRemoved_leaveEarlierVersionsIntact() {
+        List<Employee> roster = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(i -> roster.add(employee(String.valueOf(i), "E" + i, i)));
+        SalaryIndex original = SalaryIndex.build(roster);
+        List<String> originalTop = List.copyOf(original.topNames());
+
+        SalaryIndex added = original.withAdded(employee("top", "Top", 5000));
+        SalaryIndex removed = added.withRemoved(roster.get(999));
+
+        assertThat(original.size()).isEqualTo(1000);
+        assertThat(original.topNames()).isEqualTo(originalTop);
+        assertThat(added.size()).isEqualTo(1001);
+        assertThat(added.topNames()).startsWith("Top", "E999");
+        assertThat(removed.size()).isEqualTo(1000);
+        assertThat(removed.topNames()).startsWith("Top", "E998");
+        assertThat(removed.highest()).hasValue(5000);
+    }
+
+    @Test
+    void withRemoved_ignoresUnknownEmployee() {
+        SalaryIndex index = SalaryIndex.build(List.of(employee("1", "Alice", 100)));
+
+        assertThat(index.withRemoved(employee("2", "Bob", 100))).isSameAs(index);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DeadlineFilterTest {
+
+    private final DeadlineFilter filter = new DeadlineFilter();
+
+    @Test
+    void putsAbsoluteDeadlineInMdcForTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, "2000");
+        AtomicReference<String> seen = new AtomicReference<>();
+        long before = System.currentTimeMillis();
+
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(DeadlineFilter.MDC_DEADLINE_KEY)));
+
+        assertThat(Long.parseLong(seen.get())).isBetween(before + 2000, System.currentTimeMillis() + 2000);
+        assertThat(MDC.get(DeadlineFilter.MDC_DEADLINE_KEY)).isNull();
+    }
+
+    @Test
+    void ignoresMissingOrMalformedBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, "soon");
+        AtomicReference<String> seen = new AtomicReference<>("unset");
+
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(DeadlineFilter.MDC_DEADLINE_KEY)));
+
+        assertThat(seen.get()).isNull();
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    @Test
+    void tracesRequestOnAVirtualThread() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(TraceIdFilter.TRACE_ID_HEADER, "trace-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+        AtomicReference<String> after = new AtomicReference<>();
+
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(TraceIdFilter.MDC_TRACE_ID_KEY)));
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            after.set(MDC.get(TraceIdFilter.MDC_TRACE_ID_KEY));
+        });
+        thread.join();
+
+        assertThat(seen).hasValue("trace-1");
+        assertThat(after.get()).isNull();
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).isEqualTo("trace-1");
+    }
+
+    @Test
+    void generatesTraceIdWhenMissing() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain());
+
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).isNotBlank();
+    }
+}
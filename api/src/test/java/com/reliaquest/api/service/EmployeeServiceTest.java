@@ -5,25 +5,33 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
 import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.BatchItemResult;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDataDTO;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.model.Employee;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.*;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
 
 class EmployeeServiceTest {
 
     @Mock
     private ApiClient apiClient;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
     private AutoCloseable closeable;
@@ -31,10 +39,12 @@ class EmployeeServiceTest {
     @BeforeEach
     void setup() {
         closeable = MockitoAnnotations.openMocks(this);
+        employeeService = new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, true, 60_000));
     }
 
     @AfterEach
     void tearDown() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
         closeable.close();
     }
 
@@ -49,6 +59,12 @@ class EmployeeServiceTest {
         return emp;
     }
 
+    private EmployeeDataDTO<List<Employee>> employeeList(Employee... employees) {
+        EmployeeDataDTO<List<Employee>> response = new EmployeeDataDTO<>();
+        response.setData(List.of(employees));
+        return response;
+    }
+
     @Test
     void getAllEmployees_returnsEmployees_whenDataExists() {
         String id1 = UUID.randomUUID().toString();
@@ -202,47 +218,46 @@ class EmployeeServiceTest {
     void deleteEmployeeById_returnsSuccessMessage_whenDeleted() {
         String id = UUID.randomUUID().toString();
         Employee emp = employee(id, "ToDelete", 1000, "Test worker", 33, "mtmail@gmail.com");
-        EmployeeDataDTO<Employee> getResponse = new EmployeeDataDTO<>();
-        getResponse.setData(emp);
 
-        when(apiClient.getEmployeeById(id)).thenReturn(getResponse);
-        when(apiClient.deleteEmployeeByName("ToDelete")).thenReturn(true);
+        when(apiClient.deleteEmployeeById(id)).thenReturn(emp);
 
         String message = employeeService.deleteEmployeeById(id);
 
         assertThat(message).contains("Employee 'ToDelete' deleted successfully");
-        verify(apiClient).deleteEmployeeByName("ToDelete");
+        verify(apiClient).deleteEmployeeById(id);
+        verify(apiClient, never()).getEmployeeById(anyString());
+        verify(apiClient, never()).deleteEmployeeByName(anyString());
     }
 
     @Test
-    void deleteEmployeeById_returnsFailureMessage_whenNameEmpty() {
-        String id = UUID.randomUUID().toString();
-        Employee emp = employee(id, "", 1000, "Test worker", 33, "mtmail@gmail.com");
-        EmployeeDataDTO<Employee> getResponse = new EmployeeDataDTO<>();
-        getResponse.setData(emp);
-
-        when(apiClient.getEmployeeById(id)).thenReturn(getResponse);
+    void deleteEmployeeById_namesEmployeeFromSnapshot_whenReplyHasNoName() {
+        EmployeeDataDTO<List<Employee>> all = new EmployeeDataDTO<>();
+        all.setData(List.of(employee("1", "Alice", 1000, "Engineer", 23, "abc@gmail.com")));
+        when(apiClient.getAllEmployees()).thenReturn(all);
+        employeeService.getAllEmployees();
 
-        String message = employeeService.deleteEmployeeById(id);
+        when(apiClient.deleteEmployeeById("1")).thenReturn(employee("1", "", 1000, "Engineer", 23, "abc@gmail.com"));
 
-        assertThat(message).isEqualTo("Employee deletion failed");
-        verify(apiClient, never()).deleteEmployeeByName(anyString());
+        assertThat(employeeService.deleteEmployeeById("1")).isEqualTo("Employee 'Alice' deleted successfully");
+        assertThat(employeeService.deleteEmployeeById("1")).isEqualTo("Employee '1' deleted successfully");
     }
 
     @Test
-    void deleteEmployeeById_returnsFailureMessage_whenDeleteFails() {
-        String id = UUID.randomUUID().toString();
-
-        Employee emp = employee(id, "ToDelete", 1000, "Test worker", 33, "mtmail@gmail.com");
-        EmployeeDataDTO<Employee> getResponse = new EmployeeDataDTO<>();
-        getResponse.setData(emp);
-
-        when(apiClient.getEmployeeById(id)).thenReturn(getResponse);
-        when(apiClient.deleteEmployeeByName("ToDelete")).thenReturn(false);
-
-        String message = employeeService.deleteEmployeeById(id);
-
-        assertThat(message).isEqualTo("Employee deletion failed");
+    void deleteEmployeeById_patchesSnapshot() {
+        EmployeeDataDTO<List<Employee>> all = new EmployeeDataDTO<>();
+        all.setData(List.of(
+                employee("1", "Alice", 1000, "Engineer", 23, "abc@gmail.com"),
+                employee("2", "Bob", 2000, "Engineer", 23, "bob@gmail.com")));
+        when(apiClient.getAllEmployees()).thenReturn(all);
+        employeeService.getAllEmployees();
+
+        when(apiClient.deleteEmployeeById("2")).thenReturn(employee("2", "Bob", 2000, "Engineer", 23, "bob@gmail.com"));
+        employeeService.deleteEmployeeById("2");
+
+        assertThat(employeeService.getAllEmployees())
+                .extracting(Employee::getName)
+                .containsExactly("Alice");
+        assertThat(employeeService.getHighestSalary()).isEqualTo(1000);
     }
 
     @Test
@@ -311,15 +326,12 @@ class EmployeeServiceTest {
 
     @Test
     void deleteEmployeeById_returnsFailureMessage_whenEmployeeNotFound() {
-        EmployeeDataDTO<Employee> response = new EmployeeDataDTO<>();
-        response.setData(null);
-
-        when(apiClient.getEmployeeById("1")).thenReturn(response);
+        when(apiClient.deleteEmployeeById("1")).thenReturn(null);
 
         String message = employeeService.deleteEmployeeById("1");
 
         assertThat(message).isEqualTo("Employee deletion failed");
-        verify(apiClient, never()).deleteEmployeeByName(anyString());
+        verify(apiClient, never()).getEmployeeById(anyString());
     }
 
     @Test
@@ -357,4 +369,306 @@ class EmployeeServiceTest {
 
         assertThat(ex.getMessage()).isEqualTo("Create failed");
     }
+
+    @Test
+    void getAllEmployees_servesSnapshot_forRepeatedReads() {
+        List<Employee> employees = List.of(
+                employee("1", "David main", 1000, "Engineer", 23, "abc@gmail.com"),
+                employee("2", "Alic main", 1500, "Engineer-II", 23, "abc1@gmail.com"));
+        EmployeeDataDTO<List<Employee>> response = new EmployeeDataDTO<>();
+        response.setData(employees);
+
+        when(apiClient.getAllEmployees()).thenReturn(response);
+
+        employeeService.getAllEmployees();
+        employeeService.searchEmployeesByName("main");
+        employeeService.getHighestSalary();
+        employeeService.getTop10HighestEarningEmployeeNames();
+
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void createEmployee_patchesSnapshot() {
+        EmployeeDataDTO<List<Employee>> all = new EmployeeDataDTO<>();
+        all.setData(List.of(employee("1", "Alice", 1000, "Engineer", 23, "abc@gmail.com")));
+        when(apiClient.getAllEmployees()).thenReturn(all);
+        employeeService.getAllEmployees();
+
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName("Bob");
+        EmployeeDataDTO<Employee> created = new EmployeeDataDTO<>();
+        created.setData(employee("2", "Bob", 9000, "Engineer", 30, "bob@gmail.com"));
+        when(apiClient.createEmployee(request)).thenReturn(created);
+
+        employeeService.createEmployee(request);
+
+        assertThat(employeeService.getAllEmployees())
+                .extracting(Employee::getName)
+                .containsExactly("Alice", "Bob");
+        assertThat(employeeService.getHighestSalary()).isEqualTo(9000);
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void asyncReads_composeSnapshotAndIndexes() {
+        when(apiClient.getAllEmployeesAsync())
+                .thenReturn(Mono.just(employeeList(
+                        employee("1", "David main", 1000, "Engineer", 23, "abc@gmail.com"),
+                        employee("2", "Alic main", 1500, "Engineer-II", 23, "abc1@gmail.com"))));
+
+        assertThat(employeeService.getAllEmployeesAsync().block()).hasSize(2);
+        assertThat(employeeService.searchEmployeesByNameAsync("alic").block())
+                .extracting(Employee::getId)
+                .containsExactly("2");
+        assertThat(employeeService.getHighestSalaryAsync().block()).isEqualTo(1500);
+        assertThat(employeeService.getTop10HighestEarningEmployeeNamesAsync().block())
+                .containsExactly("Alic main", "David main");
+        verify(apiClient, times(1)).getAllEmployeesAsync();
+        verify(apiClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void getAllEmployeesAsync_signalsNoContent_whenNoData() {
+        when(apiClient.getAllEmployeesAsync()).thenReturn(Mono.just(employeeList()));
+
+        EmployeeApiException ex = assertThrows(
+                EmployeeApiException.class,
+                () -> employeeService.getAllEmployeesAsync().block());
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    void deleteEmployeeByIdAsync_deletesInOneCall() {
+        Employee emp = employee("1", "ToDelete", 1000, "Test worker", 33, "mtmail@gmail.com");
+        when(apiClient.deleteEmployeeByIdAsync("1")).thenReturn(Mono.just(emp));
+
+        assertThat(employeeService.deleteEmployeeByIdAsync("1").block())
+                .isEqualTo("Employee 'ToDelete' deleted successfully");
+        verify(apiClient, never()).getEmployeeByIdAsync(anyString());
+    }
+
+    @Test
+    void deleteEmployeeByIdAsync_returnsFailureMessage_whenEmployeeNotFound() {
+        when(apiClient.deleteEmployeeByIdAsync("1")).thenReturn(Mono.empty());
+
+        assertThat(employeeService.deleteEmployeeByIdAsync("1").block()).isEqualTo("Employee deletion failed");
+        verify(apiClient, never()).deleteEmployeeByNameAsync(anyString());
+    }
+
+    @Test
+    void createEmployees_patchesSnapshotWithCreatedItemsOnly() {
+        EmployeeDataDTO<List<Employee>> all = new EmployeeDataDTO<>();
+        all.setData(List.of(employee("1", "Alice", 1000, "Engineer", 23, "abc@gmail.com")));
+        when(apiClient.getAllEmployees()).thenReturn(all);
+        employeeService.getAllEmployees();
+
+        List<EmployeeCreateRequest> requests = List.of(new EmployeeCreateRequest(), new EmployeeCreateRequest());
+        when(apiClient.createEmployees(requests))
+                .thenReturn(List.of(
+                        new BatchItemResult<>(
+                                0,
+                                BatchItemResult.Status.CREATED,
+                                employee("2", "Bob", 9000, "Engineer", 30, "bob@gmail.com"),
+                                null),
+                        new BatchItemResult<>(1, BatchItemResult.Status.INVALID, null, "name must not be blank")));
+
+        assertThat(employeeService.createEmployees(requests)).hasSize(2);
+
+        assertThat(employeeService.getAllEmployees())
+                .extracting(Employee::getName)
+                .containsExactly("Alice", "Bob");
+        verify(apiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void deleteEmployeesById_removesDeletedItemsFromSnapshot() {
+        Employee alice = employee("1", "Alice", 1000, "Engineer", 23, "abc@gmail.com");
+        Employee bob = employee("2", "Bob", 2000, "Engineer", 23, "bob@gmail.com");
+        EmployeeDataDTO<List<Employee>> all = new EmployeeDataDTO<>();
+        all.setData(List.of(alice, bob));
+        when(apiClient.getAllEmployees()).thenReturn(all);
+        employeeService.getAllEmployees();
+
+        when(apiClient.deleteEmployeesById(List.of("2", "3")))
+                .thenReturn(List.of(
+                        new BatchItemResult<>(0, BatchItemResult.Status.DELETED, bob, null),
+                        new BatchItemResult<>(1, BatchItemResult.Status.NOT_FOUND, null, null)));
+
+        employeeService.deleteEmployeesById(List.of("2", "3"));
+
+        assertThat(employeeService.getAllEmployees())
+                .extracting(Employee::getName)
+                .containsExactly("Alice");
+        assertThat(employeeService.getHighestSalary()).isEqualTo(1000);
+    }
+
+    @Test
+    void batchOperations_rejectEmptyAndOversizedBatches() {
+        EmployeeApiException empty =
+                assertThrows(EmployeeApiException.class, () -> employeeService.createEmployees(List.of()));
+        EmployeeApiException oversized = assertThrows(EmployeeApiException.class, () -> employeeService
+                .deleteEmployeesByIdAsync(Collections.nCopies(EmployeeService.MAX_BATCH_SIZE + 1, "1"))
+                .block());
+
+        assertThat(empty.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(oversized.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(apiClient);
+    }
+
+    @Test
+    void reads_fallBackToStaleRosterWithAgeWhenUpstreamFails() {
+        // Every read past the first needs a refresh, which fails.
+        EmployeeService service =
+                new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, true, -1, 60_000));
+        Employee alice = employee("1", "Alice", 1000, "Engineer", 23, "alice@gmail.com");
+        EmployeeDataDTO<List<Employee>> roster = new EmployeeDataDTO<>();
+        roster.setData(List.of(alice));
+        when(apiClient.getAllEmployees())
+                .thenReturn(roster)
+                .thenThrow(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+        when(apiClient.getEmployeeById("1"))
+                .thenThrow(new EmployeeApiException("Unable to connect", HttpStatus.SERVICE_UNAVAILABLE));
+        service.getAllEmployees();
+        MockHttpServletResponse response = bindRequest();
+
+        assertThat(service.getAllEmployees()).containsExactly(alice);
+        assertThat(service.getHighestSalary()).isEqualTo(1000);
+        assertThat(service.searchEmployeesByName("ali")).containsExactly(alice);
+        assertThat(service.getEmployeeById("1")).isSameAs(alice);
+        assertThat(response.getHeader(HttpHeaders.AGE)).isEqualTo("0");
+    }
+
+    @Test
+    void reads_fallBackToStaleRosterAsync() {
+        EmployeeService service =
+                new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, true, -1, 60_000));
+        Employee alice = employee("1", "Alice", 1000, "Engineer", 23, "alice@gmail.com");
+        when(apiClient.getAllEmployeesAsync())
+                .thenReturn(Mono.just(employeeList(alice)))
+                .thenReturn(Mono.error(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS)));
+        when(apiClient.getEmployeeByIdAsync("1"))
+                .thenReturn(Mono.error(new EmployeeApiException("Timed out", HttpStatus.GATEWAY_TIMEOUT)));
+        service.getAllEmployeesAsync().block();
+        MockHttpServletResponse response = bindRequest();
+
+        assertThat(service.getTop10HighestEarningEmployeeNamesAsync().block()).containsExactly("Alice");
+        assertThat(service.getEmployeeByIdAsync("1").block()).isSameAs(alice);
+        assertThat(response.getHeader(HttpHeaders.AGE)).isEqualTo("0");
+    }
+
+    @Test
+    void reads_doNotMaskClientErrorsOrServeWithoutFallback() {
+        EmployeeService service =
+                new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, true, -1, 60_000));
+        when(apiClient.getAllEmployees())
+                .thenThrow(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+        when(apiClient.getEmployeeById("1")).thenThrow(new EmployeeApiException("Not found", HttpStatus.NOT_FOUND));
+        MockHttpServletResponse response = bindRequest();
+
+        EmployeeApiException noFallback = assertThrows(EmployeeApiException.class, service::getAllEmployees);
+        EmployeeApiException notFound = assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("1"));
+
+        assertThat(noFallback.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(notFound.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeader(HttpHeaders.AGE)).isNull();
+    }
+
+    private static MockHttpServletResponse bindRequest() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        return response;
+    }
+
+    @Test
+    void getEmployeeById_servesRepeatedLookupsFromIdCache() {
+        EmployeeService service = withIdCache();
+        Employee alice = employee("1", "Alice", 1000, "Engineer", 23, "alice@gmail.com");
+        EmployeeDataDTO<Employee> response = new EmployeeDataDTO<>();
+        response.setData(alice);
+        when(apiClient.getEmployeeById("1")).thenReturn(response);
+
+        service.getEmployeeById("1");
+        assertThat(service.getEmployeeById("1")).isSameAs(alice);
+        assertThat(service.getEmployeeByIdAsync("1").block()).isSameAs(alice);
+
+        verify(apiClient, times(1)).getEmployeeById("1");
+        verify(apiClient, never()).getEmployeeByIdAsync(anyString());
+    }
+
+    @Test
+    void getEmployeeById_remembersNotFound() {
+        EmployeeService service = withIdCache();
+        when(apiClient.getEmployeeById("missing"))
+                .thenThrow(new EmployeeApiException("Unable to connect to mock server", HttpStatus.NOT_FOUND));
+
+        assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("missing"));
+        EmployeeApiException cached =
+                assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("missing"));
+        EmployeeApiException cachedAsync =
+                assertThrows(EmployeeApiException.class, () -> service.getEmployeeByIdAsync("missing")
+                        .block());
+
+        assertThat(cached.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(cached.getMessage()).isEqualTo("Unable to connect to mock server");
+        assertThat(cachedAsync.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        verify(apiClient, times(1)).getEmployeeById("missing");
+    }
+
+    @Test
+    void getEmployeeById_doesNotCacheThrottling() {
+        EmployeeService service = withIdCache();
+        when(apiClient.getEmployeeById("1"))
+                .thenThrow(new EmployeeApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("1"));
+        assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("1"));
+
+        verify(apiClient, times(2)).getEmployeeById("1");
+    }
+
+    @Test
+    void createAndDelete_keepIdCacheCurrent() {
+        EmployeeService service = withIdCache();
+        Employee created = employee("new", "Nina", 1000, "Engineer", 23, "nina@gmail.com");
+        EmployeeDataDTO<Employee> createResponse = new EmployeeDataDTO<>();
+        createResponse.setData(created);
+        when(apiClient.createEmployee(any())).thenReturn(createResponse);
+        when(apiClient.deleteEmployeeById("new")).thenReturn(created);
+        when(apiClient.getEmployeeById("new"))
+                .thenThrow(new EmployeeApiException("Unable to connect to mock server", HttpStatus.NOT_FOUND));
+
+        service.createEmployee(new EmployeeCreateRequest());
+        assertThat(service.getEmployeeById("new")).isSameAs(created);
+        verify(apiClient, never()).getEmployeeById("new");
+
+        service.deleteEmployeeById("new");
+        assertThrows(EmployeeApiException.class, () -> service.getEmployeeById("new"));
+        verify(apiClient, times(1)).getEmployeeById("new");
+    }
+
+    @Test
+    void batchDelete_invalidatesIdCache() {
+        EmployeeService service = withIdCache();
+        Employee alice = employee("1", "Alice", 1000, "Engineer", 23, "alice@gmail.com");
+        EmployeeDataDTO<Employee> response = new EmployeeDataDTO<>();
+        response.setData(alice);
+        when(apiClient.getEmployeeById("1")).thenReturn(response);
+        when(apiClient.deleteEmployeesById(List.of("1")))
+                .thenReturn(List.of(new BatchItemResult<>(0, BatchItemResult.Status.DELETED, alice, null)));
+
+        service.getEmployeeById("1");
+        service.deleteEmployeesById(List.of("1"));
+        service.getEmployeeById("1");
+
+        verify(apiClient, times(2)).getEmployeeById("1");
+    }
+
+    private EmployeeService withIdCache() {
+        return new EmployeeService(
+                apiClient,
+                new EmployeeSnapshotCache(apiClient, true, 60_000),
+                new EmployeeByIdCache(true, 100, 60_000, 60_000));
+    }
 }
@@ -0,0 +1,142 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AsyncRateLimitQueueTest {
+
+    private static final String KEY = "global";
+
+    private SimpleRateLimiter rateLimiter;
+    private AsyncRateLimitQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(SimpleRateLimiter.class);
+        // Poll interval far beyond the test so only explicit drain() calls grant permits.
+        queue = new AsyncRateLimitQueue(2, 500, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    @Test
+    void drain_grantsPermitsInArrivalOrder() {
+        MockHttpServletRequest first = request();
+        MockHttpServletRequest second = request();
+        assertThat(queue.enqueue(first, new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire))
+                .isTrue();
+        assertThat(queue.enqueue(second, new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire))
+                .isTrue();
+        when(rateLimiter.tryAcquire()).thenReturn(true, false);
+
+        queue.drain();
+
+        assertThat(((MockAsyncContext) first.getAsyncContext()).getDispatchedPath())
+                .isEqualTo("/api/employees");
+        assertThat(((MockAsyncContext) second.getAsyncContext()).getDispatchedPath())
+                .isNull();
+        assertThat(queue.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueue_refusesWhenQueueIsFull() {
+        queue.enqueue(request(), new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire);
+        queue.enqueue(request(), new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire);
+
+        MockHttpServletRequest overflow = request();
+        assertThat(queue.enqueue(overflow, new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire))
+                .isFalse();
+        assertThat(overflow.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void timedOutRequest_isAnsweredWith429AndLeavesTheQueue() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        queue.enqueue(request, response, KEY, rateLimiter::tryAcquire);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(500);
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext, request, response));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getContentAsString()).isEqualTo(AsyncRateLimitQueue.TIMED_OUT_MESSAGE);
+        assertThat(queue.depth()).isZero();
+        queue.drain();
+        verify(rateLimiter, never()).tryAcquire();
+    }
+
+    @Test
+    void tryAcquireNow_doesNotJumpAheadOfQueuedRequests() {
+        when(rateLimiter.tryAcquire()).thenReturn(true);
+        assertThat(queue.tryAcquireNow(KEY, rateLimiter::tryAcquire)).isTrue();
+
+        queue.enqueue(request(), new MockHttpServletResponse(), KEY, rateLimiter::tryAcquire);
+
+        assertThat(queue.tryAcquireNow(KEY, rateLimiter::tryAcquire)).isFalse();
+    }
+
+    @Test
+    void enqueue_racingDrainLeavesNoQueuedCountBehind() throws Exception {
+        AsyncRateLimitQueue roomy = new AsyncRateLimitQueue(10_000, 500, 60_000);
+        AtomicBoolean enqueuing = new AtomicBoolean(true);
+        // Grants each request the moment it is queued, racing enqueue's bookkeeping for the same key.
+        Thread drainer = new Thread(() -> {
+            while (enqueuing.get()) {
+                roomy.drain();
+            }
+        });
+        drainer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                roomy.enqueue(request(), new MockHttpServletResponse(), KEY, () -> true);
+            }
+        } finally {
+            enqueuing.set(false);
+            drainer.join();
+            roomy.drain();
+            roomy.shutdown();
+        }
+
+        assertThat(roomy.depth()).isZero();
+        assertThat(roomy.tryAcquireNow(KEY, () -> true)).isTrue();
+    }
+
+    @Test
+    void drain_doesNotLetAnExhaustedKeyHoldUpOthers() {
+        MockHttpServletRequest noisy = request();
+        MockHttpServletRequest quiet = request();
+        queue.enqueue(noisy, new MockHttpServletResponse(), "client:noisy", () -> false);
+        queue.enqueue(quiet, new MockHttpServletResponse(), "client:quiet", () -> true);
+
+        queue.drain();
+
+        assertThat(((MockAsyncContext) noisy.getAsyncContext()).getDispatchedPath())
+                .isNull();
+        assertThat(((MockAsyncContext) quiet.getAsyncContext()).getDispatchedPath())
+                .isEqualTo("/api/employees");
+        assertThat(queue.tryAcquireNow("client:quiet", () -> true)).isTrue();
+        assertThat(queue.tryAcquireNow("client:noisy", () -> true)).isFalse();
+    }
+}
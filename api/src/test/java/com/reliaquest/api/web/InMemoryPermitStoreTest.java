@@ -0,0 +1,31 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPermitStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryPermitStore store = new InMemoryPermitStore(clock::get);
+
+    @Test
+    void startsFullAndGrantsAtMostWhatIsLeft() {
+        assertThat(store.take("k", 10, 5, 3)).isEqualTo(3);
+        assertThat(store.take("k", 10, 5, 3)).isEqualTo(2);
+        assertThat(store.take("k", 10, 5, 3)).isZero();
+    }
+
+    @Test
+    void refillsAtRateUpToCapacity() {
+        store.take("k", 10, 5, 5);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(store.take("k", 10, 5, 5)).isEqualTo(3);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(store.take("k", 10, 5, 10)).isEqualTo(5);
+    }
+}
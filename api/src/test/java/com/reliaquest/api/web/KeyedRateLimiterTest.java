@@ -0,0 +1,104 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.RateLimiterProperties;
+import com.reliaquest.api.config.RateLimiterProperties.KeyBy;
+import com.reliaquest.api.controller.EmployeeController;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+class KeyedRateLimiterTest {
+
+    private HandlerMethod handler(String name, Class<?>... parameterTypes) throws Exception {
+        Method method = EmployeeController.class.getMethod(name, parameterTypes);
+        return new HandlerMethod(new Object(), method);
+    }
+
+    private MockHttpServletRequest request(String remoteAddress, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        if (user != null) {
+            request.setUserPrincipal(() -> user);
+        }
+        return request;
+    }
+
+    @Test
+    void clientAndEndpoint_keysByPrincipalThenRemoteAddress() throws Exception {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setKeyBy(KeyBy.CLIENT_AND_ENDPOINT);
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties));
+        HandlerMethod getAll = handler("getAllEmployees");
+
+        assertThat(limiter.resolve(request("10.0.0.1", "alice"), getAll).key())
+                .isEqualTo("client:user:alice|endpoint:getAllEmployees");
+        assertThat(limiter.resolve(request("10.0.0.1", null), getAll).key())
+                .isEqualTo("client:10.0.0.1|endpoint:getAllEmployees");
+    }
+
+    @Test
+    void client_ignoresCallerSuppliedHeaders() throws Exception {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setKeyBy(KeyBy.CLIENT);
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties));
+        MockHttpServletRequest rotated = request("10.0.0.1", null);
+        rotated.addHeader("X-API-Key", "fresh-key");
+
+        assertThat(limiter.resolve(rotated, handler("getAllEmployees")).key()).isEqualTo("client:10.0.0.1");
+    }
+
+    @Test
+    void endpointLimits_applyTheirOwnRateAndBurst() throws Exception {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setKeyBy(KeyBy.ENDPOINT);
+        properties.setPermitsPerSecond(0.001);
+        properties.setBurst(1);
+        properties.getEndpoints().put("getAllEmployees", new RateLimiterProperties.Limit(0.001, 3));
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties));
+
+        KeyedRateLimiter.Bucket getAll = limiter.resolve(request("10.0.0.1", null), handler("getAllEmployees"));
+        KeyedRateLimiter.Bucket highest =
+                limiter.resolve(request("10.0.0.1", null), handler("getHighestSalaryOfEmployees"));
+
+        assertThat(getAll.tryAcquire()).isTrue();
+        assertThat(getAll.tryAcquire()).isTrue();
+        assertThat(getAll.tryAcquire()).isTrue();
+        assertThat(getAll.tryAcquire()).isFalse();
+        assertThat(highest.tryAcquire()).isTrue();
+        assertThat(highest.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void sameKey_sharesOneBucket() throws Exception {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setKeyBy(KeyBy.CLIENT);
+        properties.setPermitsPerSecond(0.001);
+        properties.setBurst(1);
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties));
+
+        KeyedRateLimiter.Bucket first = limiter.resolve(request("10.0.0.1", null), handler("getAllEmployees"));
+        KeyedRateLimiter.Bucket second =
+                limiter.resolve(request("10.0.0.1", null), handler("getEmployeeById", String.class));
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(first.tryAcquire()).isTrue();
+        assertThat(second.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void isActive_forKeyedBucketsOrSharedBackends() {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties));
+        assertThat(limiter.isActive()).isFalse();
+
+        properties.setBackend(RateLimiterProperties.Backend.REDIS);
+        assertThat(limiter.isActive()).isTrue();
+
+        properties.setBackend(RateLimiterProperties.Backend.LOCAL);
+        properties.setKeyBy(KeyBy.ENDPOINT);
+        assertThat(limiter.isActive()).isTrue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.RateLimiterProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LeasedRateLimiterBackendTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RateLimiterProperties.Limit limit = new RateLimiterProperties.Limit(10, 20);
+
+    private RateLimiterProperties properties(int leaseSize) {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.getLease().setSize(leaseSize);
+        properties.getLease().setTtlMillis(1_000);
+        return properties;
+    }
+
+    @Test
+    void instancesSharingAStoreShareOneBudget() {
+        InMemoryPermitStore store = new InMemoryPermitStore(clock::get);
+        LeasedRateLimiterBackend first = new LeasedRateLimiterBackend(store, properties(5), clock::get);
+        LeasedRateLimiterBackend second = new LeasedRateLimiterBackend(store, properties(5), clock::get);
+
+        int granted = 0;
+        for (int i = 0; i < 100; i++) {
+            granted += first.tryAcquire("global", limit) ? 1 : 0;
+            granted += second.tryAcquire("global", limit) ? 1 : 0;
+        }
+
+        assertThat(granted).isEqualTo(20);
+    }
+
+    @Test
+    void leasesInBatchesToStayOffTheStore() {
+        PermitStore store = spy(new InMemoryPermitStore(clock::get));
+        LeasedRateLimiterBackend backend = new LeasedRateLimiterBackend(store, properties(10), clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(backend.tryAcquire("global", limit)).isTrue();
+        }
+
+        verify(store, times(2)).take("global", 10, 20, 10);
+    }
+
+    @Test
+    void waitsOneIntervalBeforeAskingAnEmptyStoreAgain() {
+        PermitStore store = mock(PermitStore.class);
+        when(store.take(anyString(), anyDouble(), anyInt(), anyInt())).thenReturn(0);
+        LeasedRateLimiterBackend backend = new LeasedRateLimiterBackend(store, properties(10), clock::get);
+
+        assertThat(backend.tryAcquire("global", limit)).isFalse();
+        assertThat(backend.tryAcquire("global", limit)).isFalse();
+        verify(store, times(1)).take(anyString(), anyDouble(), anyInt(), anyInt());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(backend.tryAcquire("global", limit)).isFalse();
+        verify(store, times(2)).take(anyString(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    void expiredLeaseIsForfeited() {
+        PermitStore store = spy(new InMemoryPermitStore(clock::get));
+        LeasedRateLimiterBackend backend = new LeasedRateLimiterBackend(store, properties(10), clock::get);
+
+        assertThat(backend.tryAcquire("global", limit)).isTrue();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_001));
+        assertThat(backend.tryAcquire("global", limit)).isTrue();
+
+        verify(store, times(2)).take("global", 10, 20, 10);
+    }
+
+    @Test
+    void refusesWhenStoreIsUnavailable() {
+        PermitStore store = mock(PermitStore.class);
+        when(store.take(anyString(), anyDouble(), anyInt(), anyInt())).thenThrow(new IllegalStateException("down"));
+        LeasedRateLimiterBackend backend = new LeasedRateLimiterBackend(store, properties(10), clock::get);
+
+        assertThat(backend.tryAcquire("global", limit)).isFalse();
+    }
+}
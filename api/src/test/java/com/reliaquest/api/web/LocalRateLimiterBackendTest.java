@@ -0,0 +1,34 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.RateLimiterProperties;
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimiterBackendTest {
+
+    private final RateLimiterProperties.Limit limit = new RateLimiterProperties.Limit(0.001, 2);
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        LocalRateLimiterBackend backend = new LocalRateLimiterBackend(new RateLimiterProperties());
+
+        assertThat(backend.tryAcquire("a", limit)).isTrue();
+        assertThat(backend.tryAcquire("a", limit)).isTrue();
+        assertThat(backend.tryAcquire("a", limit)).isFalse();
+        assertThat(backend.tryAcquire("b", limit)).isTrue();
+    }
+
+    @Test
+    void bucketCount_isBounded() {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setMaxBuckets(50);
+        LocalRateLimiterBackend backend = new LocalRateLimiterBackend(properties);
+
+        for (int i = 0; i < 1_000; i++) {
+            backend.tryAcquire("client:" + i, limit);
+        }
+
+        assertThat(backend.bucketCount()).isLessThanOrEqualTo(50);
+    }
+}
@@ -3,6 +3,7 @@ package com.reliaquest.api.web;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.config.RateLimiterProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.PrintWriter;
@@ -10,6 +11,7 @@ import java.io.StringWriter;
 import java.lang.reflect.Field;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class RateLimiterTest {
 
@@ -69,4 +71,67 @@ class RateLimiterTest {
         verify(response).setStatus(429);
         assertTrue(responseWriter.toString().contains("Too many requests"));
     }
+
+    @Test
+    void asyncMode_queuesThrottledRequestWithoutBlocking() throws Exception {
+        AsyncRateLimitQueue queue = mock(AsyncRateLimitQueue.class);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(rateLimiter, queue, null);
+        ReflectionTestUtils.setField(interceptor, "isRateLimiterEnabled", true);
+        when(queue.tryAcquireNow(eq("global"), any())).thenReturn(false);
+        when(queue.enqueue(eq(request), eq(response), eq("global"), any())).thenReturn(true);
+
+        boolean result = interceptor.preHandle(request, response, new Object());
+
+        assertFalse(result);
+        verify(queue).enqueue(eq(request), eq(response), eq("global"), any());
+        verify(response, never()).setStatus(anyInt());
+        verify(rateLimiter, never()).tryAcquireWithRetry();
+    }
+
+    @Test
+    void asyncMode_rejectsWhenQueueIsFull() throws Exception {
+        AsyncRateLimitQueue queue = mock(AsyncRateLimitQueue.class);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(rateLimiter, queue, null);
+        ReflectionTestUtils.setField(interceptor, "isRateLimiterEnabled", true);
+        when(queue.tryAcquireNow(eq("global"), any())).thenReturn(false);
+        when(queue.enqueue(eq(request), eq(response), eq("global"), any())).thenReturn(false);
+
+        boolean result = interceptor.preHandle(request, response, new Object());
+
+        assertFalse(result);
+        verify(response).setStatus(429);
+        assertTrue(responseWriter.toString().contains("queue is full"));
+    }
+
+    @Test
+    void asyncMode_passesWhenPermitFree() throws Exception {
+        AsyncRateLimitQueue queue = mock(AsyncRateLimitQueue.class);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(rateLimiter, queue, null);
+        ReflectionTestUtils.setField(interceptor, "isRateLimiterEnabled", true);
+        when(queue.tryAcquireNow(eq("global"), any())).thenReturn(true);
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        verify(queue, never()).enqueue(any(), any(), any(), any());
+    }
+
+    @Test
+    void keyedMode_limitsEachClientSeparately() throws Exception {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setKeyBy(RateLimiterProperties.KeyBy.CLIENT);
+        properties.setPermitsPerSecond(0.001);
+        properties.setBurst(1);
+        SimpleRateLimiter noRetry = new SimpleRateLimiter(1);
+        ReflectionTestUtils.setField(noRetry, "maxRetryAttempts", 1);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(
+                noRetry, null, new KeyedRateLimiter(properties, new LocalRateLimiterBackend(properties)));
+        ReflectionTestUtils.setField(interceptor, "isRateLimiterEnabled", true);
+
+        when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        verify(response).setStatus(429);
+
+        when(request.getRemoteAddr()).thenReturn("10.0.0.2");
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+    }
 }
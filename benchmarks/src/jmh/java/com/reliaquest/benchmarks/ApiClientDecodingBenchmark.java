@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decoding of the roster response by {@link ApiClient}. The exchange function replays a pre-serialised body in
+ * network-sized buffers, so the measurement covers the WebClient body pipeline and Jackson but no I/O.
+ */
+@State(Scope.Benchmark)
+public class ApiClientDecodingBenchmark {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private ApiClient apiClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final EmployeeDataDTO<List<Employee>> roster = new EmployeeDataDTO<>();
+        roster.setData(Rosters.generate(rosterSize));
+        roster.setStatus("Successfully processed request.");
+        final byte[] body = objectMapper.writeValueAsBytes(roster);
+
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(chunked(body))
+                        .build()))
+                .build();
+        apiClient = new ApiClient(webClient, objectMapper);
+    }
+
+    private static Flux<DataBuffer> chunked(byte[] body) {
+        return Flux.defer(() -> {
+            final List<DataBuffer> buffers = new ArrayList<>(body.length / BUFFER_SIZE + 1);
+            for (int offset = 0; offset < body.length; offset += BUFFER_SIZE) {
+                final int length = Math.min(BUFFER_SIZE, body.length - offset);
+                buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                        java.nio.ByteBuffer.wrap(body, offset, length).slice()));
+            }
+            return Flux.fromIterable(buffers);
+        });
+    }
+
+    /** Whole-payload bind, as used by the blocking snapshot refresh. */
+    @Benchmark
+    public EmployeeDataDTO<List<Employee>> getAllEmployees() {
+        return apiClient.getAllEmployeesAsync().block();
+    }
+
+    /** Element-by-element decode, as used by the async snapshot refresh. */
+    @Benchmark
+    public List<Employee> streamAllEmployees() {
+        return apiClient.streamAllEmployees().collectList().block();
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.EmployeeDataDTO;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Read paths of {@link EmployeeService} against a warm roster snapshot; the upstream call is stubbed out so only the
+ * service and index work is measured.
+ */
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private EmployeeService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final EmployeeDataDTO<List<Employee>> roster = new EmployeeDataDTO<>();
+        roster.setData(Rosters.generate(rosterSize));
+        final ApiClient apiClient = new ApiClient(WebClient.create(), new ObjectMapper()) {
+            @Override
+            public EmployeeDataDTO<List<Employee>> getAllEmployees() {
+                return roster;
+            }
+        };
+        service = new EmployeeService(apiClient, new EmployeeSnapshotCache(apiClient, true, Long.MAX_VALUE));
+        service.getAllEmployees();
+    }
+
+    /**
+     * Kept in its own state so only the search benchmark is multiplied by the fragment parameter.
+     */
+    @State(Scope.Benchmark)
+    public static class Search {
+
+        /** A common fragment, a rare one (matches one employee number) and a two-character scan. */
+        @Param({"smith", "ith 4242", "ar"})
+        String fragment;
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeesByName(Search search) {
+        return service.searchEmployeesByName(search.fragment);
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return service.getTop10HighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public int getHighestSalary() {
+        return service.getHighestSalary();
+    }
+}
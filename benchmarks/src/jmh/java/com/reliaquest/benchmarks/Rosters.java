@@ -0,0 +1,78 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters, so every fork and every run measures the same data.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice",
+        "Bob",
+        "Carol",
+        "David",
+        "Erin",
+        "Frank",
+        "Grace",
+        "Heidi",
+        "Ivan",
+        "Judy",
+        "Mallory",
+        "Niaj",
+        "Olivia",
+        "Peggy",
+        "Rupert",
+        "Sybil",
+        "Trent",
+        "Victor",
+        "Walter",
+        "Zo\u00eb"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson",
+        "Brown",
+        "Clark",
+        "Davis",
+        "Evans",
+        "Garc\u00eda",
+        "Harris",
+        "Jackson",
+        "King",
+        "Lewis",
+        "Martin",
+        "Nguyen",
+        "O'Brien",
+        "Patel",
+        "Robinson",
+        "Smith",
+        "Thompson",
+        "Walker",
+        "Young",
+        "M\u00fcller"
+    };
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Director", "Designer", "Consultant"};
+
+    private Rosters() {}
+
+    static List<Employee> generate(int size) {
+        final Random random = new Random(42);
+        final List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            final String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    first + " " + last + " " + i,
+                    30_000 + random.nextInt(470_000),
+                    16 + random.nextInt(54),
+                    TITLES[random.nextInt(TITLES.length)],
+                    (first + "." + last + i + "@company.com").toLowerCase()));
+        }
+        return employees;
+    }
+}
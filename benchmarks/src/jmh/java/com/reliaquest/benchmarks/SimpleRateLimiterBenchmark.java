@@ -0,0 +1,29 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.web.SimpleRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of {@link SimpleRateLimiter#tryAcquire()} itself. The rate is set high enough that permits never run out, so
+ * the numbers reflect limiter overhead and lock contention rather than the configured rate.
+ */
+@State(Scope.Benchmark)
+public class SimpleRateLimiterBenchmark {
+
+    private final SimpleRateLimiter rateLimiter = new SimpleRateLimiter(1_000_000_000d);
+
+    @Benchmark
+    @Threads(1)
+    public boolean tryAcquire_uncontended() {
+        return rateLimiter.tryAcquire();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tryAcquire_contended() {
+        return rateLimiter.tryAcquire();
+    }
+}
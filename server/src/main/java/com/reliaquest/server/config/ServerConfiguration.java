@@ -1,18 +1,16 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.generator.MockEmployeeDataFile;
+import com.reliaquest.server.generator.MockEmployeeGenerator;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,31 +23,39 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int LOG_EACH_EMPLOYEE_MAX = 1_000;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Seed roster; MockEmployeeRepository copies it into its own indexed store for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.dataFile:}") String dataFile) {
+        final var dataset = dataFile.isBlank() ? null : new MockEmployeeDataFile(Path.of(dataFile));
+        final OptionalLong configuredSeed = seed == null ? OptionalLong.empty() : OptionalLong.of(seed);
+        if (dataset != null) {
+            final var stored = dataset.read(configuredSeed, maxEmployees);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+
+        final long effectiveSeed = seed == null ? RandomGenerator.getDefault().nextLong() : seed;
+        final var mockEmployees = new MockEmployeeGenerator(Locale.getDefault()).generate(effectiveSeed, maxEmployees);
+        if (mockEmployees.size() <= LOG_EACH_EMPLOYEE_MAX) {
+            mockEmployees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        if (dataset != null) {
+            dataset.write(effectiveSeed, mockEmployees);
+        }
+        return mockEmployees;
     }
 
     @Override
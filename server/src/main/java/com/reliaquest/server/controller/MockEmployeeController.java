@@ -1,13 +1,26 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +30,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +38,82 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    static final int DEFAULT_PAGE_LIMIT = 100;
+    static final int MAX_PAGE_LIMIT = 1000;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
+    /**
+     * Full roster, tagged with an {@code ETag} that changes on every write. A request whose {@code If-None-Match}
+     * still matches is answered 304 without a body. The roster version and epoch are also sent on their own, as the
+     * starting point for {@link #getChanges}.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees() {
+        // Read before the roster: a write in between leaves the version older than the body, never newer.
+        final String epoch = mockEmployeeService.epoch();
+        final long version = mockEmployeeService.version();
+        return ResponseEntity.ok()
+                .eTag("\"%s-%d\"".formatted(epoch, version))
+                .header(ROSTER_EPOCH_HEADER, epoch)
+                .header(ROSTER_VERSION_HEADER, Long.toString(version))
+                .body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /**
+     * Creates and deletes after roster version {@code since}, oldest first, so a copy of the roster can be kept current
+     * without re-reading it. Answers 410 when the change log no longer reaches back to {@code since}, or {@code epoch}
+     * names an earlier run of the server; the caller then re-reads the roster and continues from its version.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(
+            @RequestParam("since") long since, @RequestParam(name = "epoch", required = false) String epoch) {
+        final String currentEpoch = mockEmployeeService.epoch();
+        if (epoch != null && !epoch.equals(currentEpoch)) {
+            return ResponseEntity.status(HttpStatus.GONE).body(Response.error("Roster epoch has changed."));
+        }
+        return mockEmployeeService
+                .changesSince(since)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(
+                        new MockEmployeeChanges(currentEpoch, changes.version(), changes.items()))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since version %d are no longer available.".formatted(since))));
+    }
+
+    /**
+     * Cursor-paginated roster. {@code cursor} is the {@code nextCursor} of the previous page; {@code fields}
+     * optionally restricts each item to the named JSON properties (e.g. {@code id,employee_name}).
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Response<MockEmployeePage<?>>> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(name = "fields", required = false) Set<String> fields) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(MAX_PAGE_LIMIT)));
+        }
+        final long afterSequence;
+        try {
+            afterSequence = cursor == null || cursor.isBlank() ? 0 : PageCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Response.error("Malformed cursor."));
+        }
+
+        final var slice = mockEmployeeService.page(afterSequence, limit);
+        final var items = slice.items();
+        final String nextCursor = items.size() < limit ? null : PageCursor.encode(slice.lastSequence());
+        if (fields == null || fields.isEmpty()) {
+            return ResponseEntity.ok(Response.handledWith(new MockEmployeePage<>(items, nextCursor)));
+        }
+        final List<Map<String, Object>> projected =
+                items.stream().map(employee -> project(employee, fields)).toList();
+        return ResponseEntity.ok(Response.handledWith(new MockEmployeePage<>(projected, nextCursor)));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +133,98 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Deletes by id without resolving the name first; the removed employee is returned so callers need no prior lookup.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Creates up to {@value #MAX_BATCH_SIZE} employees in one write. Each item is validated on its own, so invalid
+     * items are reported without failing the rest; results are returned in request order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.isEmpty() || inputs.size() > MAX_BATCH_SIZE) {
+            return batchSizeRejected();
+        }
+        final List<BatchItemResult<MockEmployee>> results = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+        final List<Integer> validIndexes = new ArrayList<>(inputs.size());
+        for (int index = 0; index < inputs.size(); index++) {
+            final CreateMockEmployeeInput input = inputs.get(index);
+            final String violations = input == null ? "item must not be null" : describe(validator.validate(input));
+            if (violations.isEmpty()) {
+                validIndexes.add(index);
+            } else {
+                results.set(index, BatchItemResult.invalid(index, violations));
+            }
+        }
+
+        final List<MockEmployee> created = mockEmployeeService.createAll(
+                validIndexes.stream().map(inputs::get).toList());
+        for (int i = 0; i < created.size(); i++) {
+            final int index = validIndexes.get(i);
+            results.set(index, BatchItemResult.of(index, BatchItemResult.Status.CREATED, created.get(i)));
+        }
+        return ResponseEntity.ok(Response.handledWith(results));
+    }
+
+    /**
+     * Deletes up to {@value #MAX_BATCH_SIZE} employees by id in one write. Each result carries the removed employee,
+     * or reports the id as not found or malformed.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> deleteEmployees(
+            @RequestBody List<String> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            return batchSizeRejected();
+        }
+        final List<BatchItemResult<MockEmployee>> results = new ArrayList<>(Collections.nCopies(ids.size(), null));
+        final List<Integer> validIndexes = new ArrayList<>(ids.size());
+        final List<UUID> uuids = new ArrayList<>(ids.size());
+        for (int index = 0; index < ids.size(); index++) {
+            try {
+                uuids.add(UUID.fromString(ids.get(index)));
+                validIndexes.add(index);
+            } catch (IllegalArgumentException | NullPointerException ex) {
+                results.set(index, BatchItemResult.invalid(index, "Malformed id."));
+            }
+        }
+
+        final List<Optional<MockEmployee>> removed = mockEmployeeService.deleteAllById(uuids);
+        for (int i = 0; i < removed.size(); i++) {
+            final int index = validIndexes.get(i);
+            results.set(
+                    index,
+                    removed.get(i)
+                            .map(employee -> BatchItemResult.of(index, BatchItemResult.Status.DELETED, employee))
+                            .orElseGet(() -> BatchItemResult.of(index, BatchItemResult.Status.NOT_FOUND, null)));
+        }
+        return ResponseEntity.ok(Response.handledWith(results));
+    }
+
+    private static <T> ResponseEntity<Response<T>> batchSizeRejected() {
+        return ResponseEntity.badRequest()
+                .body(Response.error("batch must contain between 1 and %d items".formatted(MAX_BATCH_SIZE)));
+    }
+
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private Map<String, Object> project(MockEmployee employee, Set<String> fields) {
+        final Map<String, Object> properties = objectMapper.convertValue(employee, new TypeReference<>() {});
+        properties.keySet().retainAll(fields);
+        return properties;
+    }
 }
@@ -0,0 +1,31 @@
+package com.reliaquest.server.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursor: the roster sequence of the last employee on the previous page, base64url encoded so clients
+ * treat it as a token rather than something to construct. Sequences are never reused, so a cursor stays valid even if
+ * that employee is deleted.
+ */
+final class PageCursor {
+
+    private PageCursor() {}
+
+    static String encode(long lastSequence) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Long.toString(lastSequence).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode}
+     */
+    static long decode(String cursor) {
+        final long sequence = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Negative cursor sequence: " + sequence);
+        }
+        return sequence;
+    }
+}
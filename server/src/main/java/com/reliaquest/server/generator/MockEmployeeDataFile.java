@@ -0,0 +1,111 @@
+package com.reliaquest.server.generator;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact binary copy of a generated roster, so later boots can skip generation.
+ *
+ * <p>The header records the seed and size the roster was generated with; a file written for different settings is
+ * ignored rather than loaded.
+ */
+@Slf4j
+public class MockEmployeeDataFile {
+
+    private static final int MAGIC = 0x4D4F434B; // "MOCK"
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    public MockEmployeeDataFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @param seed the configured seed, or empty to accept a file written with any seed
+     * @return the stored roster if the file exists and was written for {@code seed} and {@code count}
+     */
+    public Optional<List<MockEmployee>> read(OptionalLong seed, int count) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("Ignoring {}: not a mock employee data file", path);
+                return Optional.empty();
+            }
+            final long storedSeed = in.readLong();
+            final int storedCount = in.readInt();
+            if (seed.isPresent() && seed.getAsLong() != storedSeed || storedCount != count) {
+                log.info(
+                        "Ignoring {}: written for seed {} and {} employees, configured seed {} and {} employees",
+                        path,
+                        storedSeed,
+                        storedCount,
+                        seed.isPresent() ? seed.getAsLong() : "any",
+                        count);
+                return Optional.empty();
+            }
+            final List<MockEmployee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(MockEmployee.builder()
+                        .id(new UUID(in.readLong(), in.readLong()))
+                        .name(in.readUTF())
+                        .salary(in.readInt())
+                        .age(in.readInt())
+                        .title(in.readUTF())
+                        .email(in.readUTF())
+                        .build());
+            }
+            log.info("Loaded {} employees from {} (seed: {})", count, path, storedSeed);
+            return Optional.of(employees);
+        } catch (IOException ex) {
+            log.warn("Unable to read {}, regenerating", path, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes to a sibling temporary file first and moves it into place, so a crash never leaves a partial file behind.
+     */
+    public void write(long seed, List<MockEmployee> employees) {
+        try {
+            final Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path temporary =
+                    Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(seed);
+                out.writeInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    out.writeLong(employee.getId().getMostSignificantBits());
+                    out.writeLong(employee.getId().getLeastSignificantBits());
+                    out.writeUTF(employee.getName());
+                    out.writeInt(employee.getSalary());
+                    out.writeInt(employee.getAge());
+                    out.writeUTF(employee.getTitle());
+                    out.writeUTF(employee.getEmail());
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} employees to {}", employees.size(), path);
+        } catch (IOException ex) {
+            log.warn("Unable to save generated employees to {}", path, ex);
+        }
+    }
+}
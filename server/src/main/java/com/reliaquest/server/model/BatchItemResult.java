@@ -0,0 +1,25 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request. {@code index} is the item's position in the request body.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, Status status, T data, String error) {
+
+    public static <T> BatchItemResult<T> of(int index, Status status, T data) {
+        return new BatchItemResult<>(index, status, data, null);
+    }
+
+    public static <T> BatchItemResult<T> invalid(int index, String error) {
+        return new BatchItemResult<>(index, Status.INVALID, null, error);
+    }
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * One write to the roster. {@code seq} is the roster version the write produced; {@code employee} is the employee
+ * created or removed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChange(long seq, Type type, UUID id, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The writes after a roster version, oldest first. {@code version} is the roster version they bring a copy up to, to be
+ * passed as {@code since} next time; {@code epoch} identifies the server run the versions belong to.
+ */
+public record MockEmployeeChanges(String epoch, long version, List<MockEmployeeChange> changes) {}
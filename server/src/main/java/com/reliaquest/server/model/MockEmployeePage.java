@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of the roster. {@code nextCursor} is opaque to clients and absent on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeePage<T>(List<T> items, String nextCursor) {}
@@ -0,0 +1,293 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Thread-safe employee store.
+ *
+ * <p>Employees are kept in insertion order under a monotonically increasing sequence number, with a hash index by id
+ * and a case-folded name index on the side. Lookups never lock; writes are serialised so the three structures always
+ * change together. The sequence order is a {@link PersistentSortedMap} republished on every write, so each write copies
+ * O(log n) nodes and {@link #findAll()} returns a read-only view of the latest version without copying the roster; a
+ * view never mixes states from either side of a concurrent write. Saving an employee whose id is already present
+ * replaces it, moving it to the end.
+ *
+ * <p>Every insert and removal after the seed roster is also appended to a change log under the roster version it
+ * produced, so a copy of the roster can be brought up to date from the changes alone; see {@link #changesSince(long)}.
+ * The log keeps the latest {@code mock.changes.capacity} changes.
+ */
+@Slf4j
+@Repository
+public class MockEmployeeRepository {
+
+    private volatile PersistentSortedMap<Long, MockEmployee> bySequence = PersistentSortedMap.empty();
+    private final Map<UUID, Long> sequenceById = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListSet<Long>> sequencesByName = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final int changeLogCapacity;
+    // guarded by writeLock; holds the changes of versions changeLogFloor + 1 through version
+    private final ArrayDeque<MockEmployeeChange> changeLog = new ArrayDeque<>();
+    private long changeLogFloor;
+
+    private long nextSequence = 1;
+    private volatile long version;
+
+    public MockEmployeeRepository(
+            List<MockEmployee> mockEmployees, @Value("${mock.changes.capacity:10000}") int changeLogCapacity) {
+        this.changeLogCapacity = Math.max(0, changeLogCapacity);
+        mockEmployees.forEach(this::save);
+        // The seed roster is where every copy starts from, not a change to it.
+        changeLog.clear();
+        changeLogFloor = version;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final Long sequence = sequenceById.get(id);
+        return sequence == null ? Optional.empty() : Optional.ofNullable(bySequence.get(sequence));
+    }
+
+    /**
+     * Finds the earliest-added employee whose name matches, ignoring case.
+     */
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var sequences = sequencesByName.get(fold(name));
+        if (sequences == null) {
+            return Optional.empty();
+        }
+        final var current = bySequence;
+        return sequences.stream().map(current::get).filter(Objects::nonNull).findFirst();
+    }
+
+    public List<MockEmployee> findAll() {
+        return new RosterView(bySequence);
+    }
+
+    /**
+     * Returns up to {@code limit} employees added after {@code afterSequence} (0 for the beginning), in insertion
+     * order, together with the sequence of the last one returned.
+     */
+    public Slice findAfter(long afterSequence, int limit) {
+        final var current = bySequence;
+        final List<MockEmployee> items = new ArrayList<>(Math.min(limit, current.size()));
+        long lastSequence = afterSequence;
+        for (var entries = current.iteratorFrom(afterSequence + 1); entries.hasNext() && items.size() < limit; ) {
+            final var entry = entries.next();
+            items.add(entry.getValue());
+            lastSequence = entry.getKey();
+        }
+        return new Slice(List.copyOf(items), lastSequence);
+    }
+
+    /**
+     * Incremented on every write; lets callers detect that the roster changed.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Identifies this run of the server. Versions restart from 0 on every boot, so a version is only meaningful
+     * together with the epoch it was read under.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * The changes after version {@code since}, oldest first, up to the current version. Empty when the log no longer
+     * goes back that far, or {@code since} is ahead of the current version; the caller then has to start over from
+     * {@link #findAll()}.
+     */
+    public Optional<Changes> changesSince(long since) {
+        writeLock.lock();
+        try {
+            if (since < changeLogFloor || since > version) {
+                return Optional.empty();
+            }
+            final long newer = version - since;
+            return Optional.of(new Changes(
+                    changeLog.stream().skip(changeLog.size() - newer).toList(), version));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return bySequence.size();
+    }
+
+    public MockEmployee save(@NonNull MockEmployee employee) {
+        writeLock.lock();
+        try {
+            return insert(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Saves all employees under a single acquisition of the write lock, in list order.
+     */
+    public List<MockEmployee> saveAll(@NonNull List<MockEmployee> employees) {
+        writeLock.lock();
+        try {
+            employees.forEach(this::insert);
+            return employees;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the earliest-added employee whose name matches, ignoring case.
+     */
+    public Optional<MockEmployee> deleteFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            final var sequences = sequencesByName.get(fold(name));
+            if (sequences == null || sequences.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(remove(sequences.first()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID id) {
+        writeLock.lock();
+        try {
+            final Long sequence = sequenceById.get(id);
+            return sequence == null ? Optional.empty() : Optional.of(remove(sequence));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes all given ids under a single acquisition of the write lock. The result holds, position for position, the
+     * removed employee or empty when the id was not present (including repeats of an id already removed).
+     */
+    public List<Optional<MockEmployee>> deleteAllById(@NonNull List<UUID> ids) {
+        writeLock.lock();
+        try {
+            final List<Optional<MockEmployee>> removed = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                final Long sequence = sequenceById.get(id);
+                removed.add(sequence == null ? Optional.empty() : Optional.of(remove(sequence)));
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private MockEmployee insert(MockEmployee employee) {
+        if (employee.getId() != null) {
+            final Long replaced = sequenceById.get(employee.getId());
+            if (replaced != null) {
+                remove(replaced);
+            }
+        }
+        final long sequence = nextSequence++;
+        bySequence = bySequence.with(sequence, employee);
+        if (employee.getId() != null) {
+            sequenceById.put(employee.getId(), sequence);
+        }
+        if (employee.getName() != null) {
+            sequencesByName
+                    .computeIfAbsent(fold(employee.getName()), ignored -> new ConcurrentSkipListSet<>())
+                    .add(sequence);
+        }
+        onWrite(MockEmployeeChange.Type.CREATED, employee);
+        return employee;
+    }
+
+    private MockEmployee remove(long sequence) {
+        final MockEmployee employee = bySequence.get(sequence);
+        bySequence = bySequence.without(sequence);
+        if (employee.getId() != null) {
+            sequenceById.remove(employee.getId());
+        }
+        if (employee.getName() != null) {
+            sequencesByName.computeIfPresent(fold(employee.getName()), (name, sequences) -> {
+                sequences.remove(sequence);
+                return sequences.isEmpty() ? null : sequences;
+            });
+        }
+        onWrite(MockEmployeeChange.Type.DELETED, employee);
+        return employee;
+    }
+
+    private void onWrite(MockEmployeeChange.Type type, MockEmployee employee) {
+        version++;
+        changeLog.addLast(new MockEmployeeChange(version, type, employee.getId(), employee));
+        while (changeLog.size() > changeLogCapacity) {
+            changeLog.removeFirst();
+            changeLogFloor++;
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** Read-only list over one version of the roster: O(log n) by position, linear when iterated. */
+    private static final class RosterView extends AbstractList<MockEmployee> {
+
+        private final PersistentSortedMap<Long, MockEmployee> roster;
+
+        RosterView(PersistentSortedMap<Long, MockEmployee> roster) {
+            this.roster = roster;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return roster.entryAt(index).getValue();
+        }
+
+        @Override
+        public int size() {
+            return roster.size();
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            final Iterator<Map.Entry<Long, MockEmployee>> entries = roster.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public MockEmployee next() {
+                    return entries.next().getValue();
+                }
+            };
+        }
+    }
+
+    public record Slice(List<MockEmployee> items, long lastSequence) {}
+
+    public record Changes(List<MockEmployeeChange> items, long version) {}
+}
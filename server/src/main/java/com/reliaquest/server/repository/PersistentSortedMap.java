@@ -0,0 +1,241 @@
+package com.reliaquest.server.repository;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable sorted map stored as an AVL tree whose nodes are never mutated. {@link #with} and {@link #without} copy
+ * only the O(log n) nodes on the path to the change and share every other subtree with this map, so a published
+ * version stays valid while later writes build the next one. Nodes also count their subtree, so the entry at a given
+ * rank is found in O(log n).
+ */
+final class PersistentSortedMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return new PersistentSortedMap<>(Comparator.naturalOrder(), null);
+    }
+
+    int size() {
+        return Node.size(root);
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int order = comparator.compare(key, node.key);
+            if (order == 0) {
+                return node.value;
+            }
+            node = order < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /** The entry with {@code rank} smaller keys. */
+    Map.Entry<K, V> entryAt(int rank) {
+        Objects.checkIndex(rank, size());
+        Node<K, V> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (rank == leftSize) {
+                return node;
+            }
+            if (rank < leftSize) {
+                node = node.left;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /** Adds the entry, or replaces the value of an equal key. */
+    PersistentSortedMap<K, V> with(K key, V value) {
+        return new PersistentSortedMap<>(comparator, insert(root, key, value));
+    }
+
+    /** This map without {@code key}; the same instance if it has no such key. */
+    PersistentSortedMap<K, V> without(K key) {
+        Node<K, V> removed = delete(root, key);
+        return removed == root ? this : new PersistentSortedMap<>(comparator, removed);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root, null, comparator);
+    }
+
+    /** Entries in key order, starting at the first key not less than {@code from}. */
+    Iterator<Map.Entry<K, V>> iteratorFrom(K from) {
+        return new EntryIterator<>(root, from, comparator);
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int order = comparator.compare(key, node.key);
+        if (order == 0) {
+            return new Node<>(key, value, node.left, node.right);
+        }
+        if (order < 0) {
+            return rebalance(node.withChildren(insert(node.left, key, value), node.right));
+        }
+        return rebalance(node.withChildren(node.left, insert(node.right, key, value)));
+    }
+
+    private Node<K, V> delete(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int order = comparator.compare(key, node.key);
+        if (order < 0) {
+            Node<K, V> left = delete(node.left, key);
+            return left == node.left ? node : rebalance(node.withChildren(left, node.right));
+        }
+        if (order > 0) {
+            Node<K, V> right = delete(node.right, key);
+            return right == node.right ? node : rebalance(node.withChildren(node.left, right));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return rebalance(successor.withChildren(node.left, deleteFirst(node.right)));
+    }
+
+    private static <K, V> Node<K, V> deleteFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return rebalance(node.withChildren(deleteFirst(node.left), node.right));
+    }
+
+    private static <K, V> Node<K, V> rebalance(Node<K, V> node) {
+        int balance = Node.height(node.left) - Node.height(node.right);
+        if (balance > 1) {
+            Node<K, V> left = node.left;
+            if (Node.height(left.left) < Node.height(left.right)) {
+                left = rotateLeft(left);
+            }
+            return rotateRight(node.withChildren(left, node.right));
+        }
+        if (balance < -1) {
+            Node<K, V> right = node.right;
+            if (Node.height(right.right) < Node.height(right.left)) {
+                right = rotateRight(right);
+            }
+            return rotateLeft(node.withChildren(node.left, right));
+        }
+        return node;
+    }
+
+    private static <K, V> Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> left = node.left;
+        return left.withChildren(left.left, node.withChildren(left.right, node.right));
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> right = node.right;
+        return right.withChildren(node.withChildren(node.left, right.left), right.right);
+    }
+
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+
+        final K key;
+        final V value;
+        final Node<K, V> left;
+        final Node<K, V> right;
+        final int height;
+        final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        Node<K, V> withChildren(Node<K, V> left, Node<K, V> right) {
+            return new Node<>(key, value, left, right);
+        }
+
+        static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        EntryIterator(Node<K, V> root, K from, Comparator<? super K> comparator) {
+            Node<K, V> node = root;
+            while (node != null) {
+                if (from == null || comparator.compare(from, node.key) <= 0) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> next = path.pop();
+            for (Node<K, V> node = next.right; node != null; node = node.left) {
+                path.push(node);
+            }
+            return next;
+        }
+    }
+}
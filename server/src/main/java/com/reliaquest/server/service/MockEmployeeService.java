@@ -4,11 +4,10 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,38 +20,89 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final MockEmployeeRepository repository;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    public List<MockEmployee> getMockEmployees() {
+        return repository.findAll();
+    }
+
+    /**
+     * Changes on every write; see {@link MockEmployeeRepository#version()}.
+     */
+    public long version() {
+        return repository.version();
+    }
+
+    /**
+     * Identifies this server run; see {@link MockEmployeeRepository#epoch()}.
+     */
+    public String epoch() {
+        return repository.epoch();
+    }
+
+    /**
+     * Creates and deletes after roster version {@code since}; see {@link MockEmployeeRepository#changesSince(long)}.
+     */
+    public Optional<MockEmployeeRepository.Changes> changesSince(long since) {
+        return repository.changesSince(since);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return repository.findById(uuid);
+    }
+
+    /**
+     * Returns up to {@code limit} employees added after {@code afterSequence}, in roster order.
+     */
+    public MockEmployeeRepository.Slice page(long afterSequence, int limit) {
+        return repository.findAfter(afterSequence, limit);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = toMockEmployee(input);
+        repository.save(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates all employees in one repository write; the result is in input order.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::toMockEmployee).toList();
+        repository.saveAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        final var mockEmployee = repository.deleteFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = repository.deleteById(uuid);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
+    }
+
+    /**
+     * Deletes by id in one repository write; see {@link MockEmployeeRepository#deleteAllById(List)}.
+     */
+    public List<Optional<MockEmployee>> deleteAllById(@NonNull List<UUID> ids) {
+        final var removed = repository.deleteAllById(ids);
+        log.debug(
+                "Removed {} of {} employees",
+                removed.stream().filter(Optional::isPresent).count(),
+                ids.size());
+        return removed;
+    }
+
+    private MockEmployee toMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
     }
 }
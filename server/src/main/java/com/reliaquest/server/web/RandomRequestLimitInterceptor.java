@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -24,7 +25,10 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
+                Duration remaining = Duration.between(
+                        Instant.now(), requestLimit.get().getLastRequested().plus(REQUEST_BACKOFF_DURATION));
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, remaining.toSeconds() + 1)));
                 return false;
             }
             if (Instant.now()
@@ -0,0 +1,169 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final int CHANGE_LOG_CAPACITY = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<MockEmployee> seeded = IntStream.range(0, 5)
+            .mapToObj(i -> MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Seed " + i)
+                    .salary(1000 + i)
+                    .age(30)
+                    .title("Engineer")
+                    .email("seed" + i + "@company.com")
+                    .build())
+            .toList();
+
+    private MockEmployeeRepository repository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MockEmployeeRepository(seeded, CHANGE_LOG_CAPACITY);
+        MockEmployeeController controller = new MockEmployeeController(
+                new MockEmployeeService(new Faker(), repository),
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getEmployees_answers304WhileIfNoneMatchStillMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.ROSTER_EPOCH_HEADER, repository.epoch()))
+                .andExpect(header().string(
+                                MockEmployeeController.ROSTER_VERSION_HEADER, Long.toString(repository.version())))
+                .andExpect(jsonPath("$.data.length()").value(seeded.size()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        create("Created");
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.data.length()").value(seeded.size() + 1));
+    }
+
+    @Test
+    void getChanges_returnsWritesSinceTheGivenVersion() throws Exception {
+        long since = repository.version();
+        create("Created");
+        mockMvc.perform(delete("/api/v1/employee/" + seeded.get(0).getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employee/changes")
+                        .param("since", Long.toString(since))
+                        .param("epoch", repository.epoch()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.epoch").value(repository.epoch()))
+                .andExpect(jsonPath("$.data.version").value(since + 2))
+                .andExpect(jsonPath("$.data.changes[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.data.changes[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.data.changes[1].id")
+                        .value(seeded.get(0).getId().toString()));
+    }
+
+    @Test
+    void getChanges_answers410OnceTheLogHasMovedPastTheVersion() throws Exception {
+        long since = repository.version();
+        for (int i = 0; i <= CHANGE_LOG_CAPACITY; i++) {
+            create("Created " + i);
+        }
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", Long.toString(since)))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").exists());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", Long.toString(since + 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changes.length()").value(CHANGE_LOG_CAPACITY));
+    }
+
+    @Test
+    void getChanges_answers410ForAnotherEpochOrAFutureVersion() throws Exception {
+        String version = Long.toString(repository.version());
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", version).param("epoch", "earlier-run"))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", Long.toString(repository.version() + 1)))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", version))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changes").isEmpty());
+    }
+
+    @Test
+    void getEmployeePage_cursorStaysValidWhenItsEmployeeIsDeleted() throws Exception {
+        JsonNode first = page(null);
+        String cursor = first.path("data").path("nextCursor").asText();
+        repository.deleteById(seeded.get(1).getId());
+        repository.deleteById(seeded.get(2).getId());
+
+        JsonNode second = page(cursor);
+
+        assertIds(first, seeded.get(0), seeded.get(1));
+        assertIds(second, seeded.get(3), seeded.get(4));
+    }
+
+    private JsonNode page(String cursor) throws Exception {
+        var request = get("/api/v1/employee/page").param("limit", "2");
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static void assertIds(JsonNode page, MockEmployee... expected) {
+        List<String> ids = page.path("data").path("items").findValuesAsText("id");
+        assertThat(ids)
+                .containsExactlyElementsOf(Arrays.stream(expected)
+                        .map(employee -> employee.getId().toString())
+                        .toList());
+    }
+
+    private void create(String name) throws Exception {
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"%s\",\"salary\":1000,\"age\":30,\"title\":\"Engineer\"}".formatted(name)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsTheSequence() {
+        assertThat(PageCursor.decode(PageCursor.encode(0))).isZero();
+        assertThat(PageCursor.decode(PageCursor.encode(123_456_789L))).isEqualTo(123_456_789L);
+    }
+
+    @Test
+    void rejectsCursorsItDidNotProduce() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode(-5))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,239 @@
+package com.reliaquest.server.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRepositoryTest {
+
+    private static final int THREADS = 8;
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static List<MockEmployee> seed(int size) {
+        return IntStream.range(0, size).mapToObj(i -> employee("Seed " + i)).toList();
+    }
+
+    @Test
+    void concurrentCreatesAndDeletesKeepTheIndexesConsistent() throws Exception {
+        List<MockEmployee> seeded = seed(400);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10_000);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int worker = thread;
+            tasks.add(() -> {
+                for (int i = 0; i < 250; i++) {
+                    repository.save(employee("Created " + worker + "-" + i));
+                }
+                // Every worker races for the same seeded ids; each must be removed exactly once.
+                int removed = 0;
+                for (MockEmployee employee : seeded) {
+                    if (repository.deleteById(employee.getId()).isPresent()) {
+                        removed++;
+                    }
+                }
+                return removed;
+            });
+        }
+
+        int removed = 0;
+        for (int count : runConcurrently(tasks)) {
+            removed += count;
+        }
+
+        assertThat(removed).isEqualTo(seeded.size());
+        assertThat(repository.size()).isEqualTo(THREADS * 250);
+        assertThat(repository.findAll()).hasSize(THREADS * 250);
+        assertThat(repository.findAll()).extracting(MockEmployee::getName).allMatch(name -> name.startsWith("Created"));
+        assertThat(repository.findAll()).extracting(MockEmployee::getId).doesNotHaveDuplicates();
+        assertThat(repository.version()).isEqualTo(400 + THREADS * 250 + 400);
+        for (MockEmployee employee : repository.findAll()) {
+            assertThat(repository.findById(employee.getId())).containsSame(employee);
+            assertThat(repository.findFirstByName(employee.getName())).containsSame(employee);
+        }
+    }
+
+    @Test
+    void concurrentBatchDeletesRemoveEachIdOnce() throws Exception {
+        List<MockEmployee> seeded = seed(300);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10_000);
+        List<UUID> ids = seeded.stream().map(MockEmployee::getId).toList();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            tasks.add(() -> (int) repository.deleteAllById(ids).stream()
+                    .filter(Optional::isPresent)
+                    .count());
+        }
+
+        int removed = 0;
+        for (int count : runConcurrently(tasks)) {
+            removed += count;
+        }
+
+        assertThat(removed).isEqualTo(seeded.size());
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    void findAfter_pagesStayStableAcrossDeletes() {
+        List<MockEmployee> seeded = seed(30);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10_000);
+
+        MockEmployeeRepository.Slice first = repository.findAfter(0, 10);
+        // Deleting the last employee already paged past, and one on the next page, must neither repeat nor skip others.
+        repository.deleteById(seeded.get(9).getId());
+        repository.deleteById(seeded.get(12).getId());
+        repository.deleteById(seeded.get(3).getId());
+        MockEmployeeRepository.Slice second = repository.findAfter(first.lastSequence(), 10);
+        MockEmployeeRepository.Slice third = repository.findAfter(second.lastSequence(), 10);
+
+        assertThat(first.items()).containsExactlyElementsOf(seeded.subList(0, 10));
+        List<MockEmployee> expected = new ArrayList<>(seeded.subList(10, 21));
+        expected.remove(seeded.get(12));
+        assertThat(second.items()).containsExactlyElementsOf(expected);
+        assertThat(third.items()).containsExactlyElementsOf(seeded.subList(21, 30));
+    }
+
+    @Test
+    void findAfter_doesNotRevisitEmployeesCreatedOnEarlierPages() {
+        List<MockEmployee> seeded = seed(20);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10_000);
+
+        MockEmployeeRepository.Slice first = repository.findAfter(0, 10);
+        MockEmployee created = repository.save(employee("Created later"));
+        MockEmployeeRepository.Slice rest = repository.findAfter(first.lastSequence(), 100);
+
+        assertThat(rest.items()).hasSize(11).endsWith(created);
+        assertThat(rest.items()).doesNotContainAnyElementsOf(first.items());
+    }
+
+    @Test
+    void save_replacesTheEmployeeWithTheSameId() {
+        List<MockEmployee> seeded = seed(3);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10);
+        MockEmployee renamed = seeded.get(0).toBuilder().name("Renamed").build();
+
+        repository.save(renamed);
+
+        assertThat(repository.size()).isEqualTo(3);
+        assertThat(repository.findAll()).containsExactly(seeded.get(1), seeded.get(2), renamed);
+        assertThat(repository.findById(renamed.getId())).contains(renamed);
+        assertThat(repository.findFirstByName("seed 0")).isEmpty();
+        assertThat(repository.findAfter(0, 10).items()).containsExactly(seeded.get(1), seeded.get(2), renamed);
+
+        assertThat(repository.deleteById(renamed.getId())).contains(renamed);
+        assertThat(repository.findAll()).containsExactly(seeded.get(1), seeded.get(2));
+        assertThat(repository.findById(renamed.getId())).isEmpty();
+    }
+
+    @Test
+    void findAll_isNotChangedByLaterWrites() {
+        List<MockEmployee> seeded = seed(3);
+        MockEmployeeRepository repository = new MockEmployeeRepository(seeded, 10);
+
+        List<MockEmployee> before = repository.findAll();
+        MockEmployee created = repository.save(employee("Created"));
+        repository.deleteById(seeded.get(1).getId());
+
+        assertThat(before).containsExactlyElementsOf(seeded);
+        assertThat(before.get(1)).isEqualTo(seeded.get(1));
+        assertThat(repository.findAll()).containsExactly(seeded.get(0), seeded.get(2), created);
+        assertThatThrownBy(() -> before.add(created)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void changesSince_replaysWritesAfterTheSeedRoster() {
+        MockEmployeeRepository repository = new MockEmployeeRepository(seed(5), 10);
+        long seeded = repository.version();
+
+        MockEmployee created = repository.save(employee("Created"));
+        MockEmployee deleted = repository.deleteFirstByName("seed 0").orElseThrow();
+
+        MockEmployeeRepository.Changes changes = repository.changesSince(seeded).orElseThrow();
+        assertThat(changes.version()).isEqualTo(seeded + 2);
+        assertThat(changes.items())
+                .extracting(MockEmployeeChange::seq, MockEmployeeChange::type, MockEmployeeChange::id)
+                .containsExactly(
+                        tuple(seeded + 1, MockEmployeeChange.Type.CREATED, created.getId()),
+                        tuple(seeded + 2, MockEmployeeChange.Type.DELETED, deleted.getId()));
+        assertThat(repository.changesSince(seeded + 1).orElseThrow().items()).hasSize(1);
+        assertThat(repository.changesSince(seeded + 2).orElseThrow().items()).isEmpty();
+    }
+
+    @Test
+    void changesSince_isEmptyBeforeTheSeedRosterAndAheadOfTheVersion() {
+        MockEmployeeRepository repository = new MockEmployeeRepository(seed(5), 10);
+
+        assertThat(repository.changesSince(repository.version() - 1)).isEmpty();
+        assertThat(repository.changesSince(repository.version() + 1)).isEmpty();
+    }
+
+    @Test
+    void changesSince_isEmptyOnceTheLogHasMovedPastCapacity() {
+        MockEmployeeRepository repository = new MockEmployeeRepository(seed(5), 3);
+        long seeded = repository.version();
+
+        for (int i = 0; i < 4; i++) {
+            repository.save(employee("Created " + i));
+        }
+
+        assertThat(repository.changesSince(seeded)).isEmpty();
+        assertThat(repository.changesSince(seeded + 1).orElseThrow().items())
+                .extracting(MockEmployeeChange::seq)
+                .containsExactly(seeded + 2, seeded + 3, seeded + 4);
+    }
+
+    @Test
+    void changesSince_withZeroCapacityOnlyConfirmsTheCurrentVersion() {
+        MockEmployeeRepository repository = new MockEmployeeRepository(seed(2), 0);
+        repository.save(employee("Created"));
+
+        assertThat(repository.changesSince(repository.version() - 1)).isEmpty();
+        assertThat(repository.changesSince(repository.version()).orElseThrow().items())
+                .isEmpty();
+    }
+
+    private static List<Integer> runConcurrently(List<Callable<Integer>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Callable<Integer> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}